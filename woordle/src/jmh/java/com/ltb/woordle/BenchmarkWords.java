@@ -0,0 +1,30 @@
+package com.ltb.woordle;
+
+/**
+ * Deterministic guess/answer pairs for benchmarks, so results stay comparable between runs.
+ */
+public final class BenchmarkWords {
+
+    private BenchmarkWords() {
+        throw new UnsupportedOperationException("BenchmarkWords is a utility class and is not meant to be instantiated.");
+    }
+
+    /**
+     * Word shape parameter values: "distinct" uses no repeated letters, "duplicates" repeats a few letters heavily.
+     */
+    public static final String DISTINCT = "distinct";
+    public static final String DUPLICATES = "duplicates";
+
+    private static final String DISTINCT_ANSWER = "abcdefghijklmno";
+    private static final String DISTINCT_GUESS = "bcdefghijklmnoa";
+    private static final String DUPLICATE_ANSWER = "seesaweeseesawe";
+    private static final String DUPLICATE_GUESS = "eeeesssaeeeesss";
+
+    public static String guess(int length, String shape) {
+        return (DUPLICATES.equals(shape) ? DUPLICATE_GUESS : DISTINCT_GUESS).substring(0, length);
+    }
+
+    public static String answer(int length, String shape) {
+        return (DUPLICATES.equals(shape) ? DUPLICATE_ANSWER : DISTINCT_ANSWER).substring(0, length);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ltb.woordle.dictionary;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compact local word set against a plain HashSet of Strings, and measures a warm cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DictionaryLookupBenchmark {
+
+    @Param({"3", "5", "8", "12", "15"})
+    int length;
+
+    private LengthIndexedWordSet words;
+    private Set<String> hashSet;
+    private DictionaryValidationCache cache;
+    private String knownWord;
+    private String unknownWord;
+
+    @Setup
+    public void setUp() {
+        LocalDictionaryProvider provider = new LocalDictionaryProvider(new ClassPathResource("dictionary/en.txt"));
+        words = provider.getWords();
+
+        hashSet = new HashSet<>();
+        for (int l = LengthIndexedWordSet.MIN_LENGTH; l <= LengthIndexedWordSet.MAX_LENGTH; l++) {
+            for (int i = 0; i < words.size(l); i++) {
+                hashSet.add(words.wordAt(l, i));
+            }
+        }
+
+        knownWord = words.wordAt(length, words.size(length) / 2);
+        unknownWord = "q".repeat(length);
+
+        cache = new DictionaryValidationCache(50_000, Duration.ofHours(24), Duration.ofHours(1));
+        cache.isValidWord(knownWord, word -> true);
+    }
+
+    @Benchmark
+    public boolean wordSetHit() {
+        return words.contains(knownWord);
+    }
+
+    @Benchmark
+    public boolean wordSetMiss() {
+        return words.contains(unknownWord);
+    }
+
+    @Benchmark
+    public boolean hashSetHit() {
+        return hashSet.contains(knownWord);
+    }
+
+    @Benchmark
+    public boolean hashSetMiss() {
+        return hashSet.contains(unknownWord);
+    }
+
+    @Benchmark
+    public boolean validationCacheHit() {
+        return cache.isValidWord(knownWord, word -> false);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ltb.woordle.models;
+
+import com.ltb.woordle.BenchmarkWords;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WordBenchmark {
+
+    @Param({"1", "5", "10", "15"})
+    int length;
+
+    private Word word;
+
+    @Setup
+    public void setUp() {
+        word = Word.builder().word(BenchmarkWords.answer(length, BenchmarkWords.DISTINCT)).build();
+    }
+
+    @Benchmark
+    public ArrayList<Character> populateCharacters() {
+        word.populateCharacters();
+        return word.getCharacters();
+    }
+}
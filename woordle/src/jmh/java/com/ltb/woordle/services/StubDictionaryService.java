@@ -0,0 +1,19 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.metrics.WoordleMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * DictionaryService that accepts every word, so benchmarks measure evaluation rather than lookups.
+ */
+class StubDictionaryService extends DictionaryService {
+
+    StubDictionaryService() {
+        super(null, null, null, null, null, new WoordleMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Override
+    boolean isValidDictionaryWord(CharSequence guess) {
+        return true;
+    }
+}
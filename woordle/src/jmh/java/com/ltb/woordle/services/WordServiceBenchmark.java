@@ -0,0 +1,68 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.BenchmarkWords;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.ltb.woordle.utils.PackedFeedback;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WordServiceBenchmark {
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
+    int length;
+
+    @Param({BenchmarkWords.DISTINCT, BenchmarkWords.DUPLICATES})
+    String shape;
+
+    private WordService wordService;
+    private List<Character> guessCharacters;
+    private String guess;
+    private String answer;
+    private byte[] guessBytes;
+    private byte[] answerBytes;
+
+    @Setup
+    public void setUp() {
+        wordService = new WordService();
+        wordService.dictionaryService = new StubDictionaryService();
+        wordService.metrics = new WoordleMetrics(new SimpleMeterRegistry());
+
+        guess = BenchmarkWords.guess(length, shape);
+        answer = BenchmarkWords.answer(length, shape);
+        guessBytes = guess.getBytes();
+        answerBytes = answer.getBytes();
+
+        guessCharacters = new ArrayList<>();
+        for (char c : guess.toCharArray()) {
+            guessCharacters.add(c);
+        }
+    }
+
+    // Goes through checkLetters whenever guess and answer differ
+    @Benchmark
+    public List<Character> handleGuess() {
+        return wordService.handleGuess(guessCharacters, answer);
+    }
+
+    @Benchmark
+    public int handleGuessPacked() {
+        return wordService.handleGuessPacked(guess, answer);
+    }
+
+    @Benchmark
+    public int evaluatePackedChars() {
+        return PackedFeedback.evaluate(guess, answer);
+    }
+
+    @Benchmark
+    public int evaluatePackedBytes() {
+        return PackedFeedback.evaluate(guessBytes, answerBytes);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ltb.woordle.solver;
+
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares counting the remaining candidates with the bitmap index against evaluating every word of the length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CandidateIndexBenchmark {
+
+    @Param({"5", "8", "12"})
+    int length;
+
+    @Param({"1", "3"})
+    int guessCount;
+
+    private LengthIndexedWordSet words;
+    private CandidateIndex index;
+    private CharSequence[] guesses;
+    private byte[][] guessBytes;
+    private int[] packed;
+
+    @Setup
+    public void setUp() {
+        LocalDictionaryProvider provider = new LocalDictionaryProvider(new ClassPathResource("dictionary/en.txt"));
+        words = provider.getWords();
+        index = new CandidateIndex(provider);
+
+        Random random = new Random(42);
+        String answer = words.randomWord(length, random);
+        guesses = new CharSequence[guessCount];
+        guessBytes = new byte[guessCount][];
+        packed = new int[guessCount];
+        for (int g = 0; g < guessCount; g++) {
+            String guess = words.randomWord(length, random);
+            guesses[g] = guess;
+            guessBytes[g] = guess.getBytes();
+            packed[g] = PackedFeedback.evaluate(guess, answer);
+        }
+    }
+
+    @Benchmark
+    public int bitmapIndex() {
+        return index.count(length, guesses, packed);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int size = words.size(length);
+        byte[] word = new byte[length];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            for (int position = 0; position < length; position++) {
+                word[position] = (byte) words.letterAt(length, i, position);
+            }
+            boolean consistent = true;
+            for (int g = 0; g < guessBytes.length && consistent; g++) {
+                consistent = PackedFeedback.evaluate(guessBytes[g], word) == packed[g];
+            }
+            count += consistent ? 1 : 0;
+        }
+        return count;
+    }
+}
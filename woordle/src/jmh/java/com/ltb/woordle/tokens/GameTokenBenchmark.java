@@ -0,0 +1,43 @@
+package com.ltb.woordle.tokens;
+
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing and verifying a stateless game token, the overhead token mode adds to every guess.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameTokenBenchmark {
+
+    @Param({"0", "5"})
+    int attempts;
+
+    private GameTokenCodec codec;
+    private ActiveGame game;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        codec = new GameTokenCodec("0123456789abcdef0123456789abcdef".getBytes());
+        game = new ActiveGame("crane", 6);
+        for (int i = 0; i < attempts; i++) {
+            game.recordGuess("slate", PackedFeedback.evaluate("slate", "crane"));
+        }
+        token = codec.encode("alice", 42L, 0L, game);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode("alice", 42L, 0L, game);
+    }
+
+    @Benchmark
+    public GameTokenCodec.GameToken decode() {
+        return codec.decode("alice", token);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ltb.woordle.utils;
+
+import com.ltb.woordle.BenchmarkWords;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WordValidatorBenchmark {
+
+    @Param({"1", "5", "10", "15"})
+    int length;
+
+    private String word;
+    private String rawWord;
+
+    @Setup
+    public void setUp() {
+        word = BenchmarkWords.answer(length, BenchmarkWords.DISTINCT);
+        rawWord = "  " + word.toUpperCase(Locale.ROOT) + " ";
+    }
+
+    @Benchmark
+    public boolean isValidAlphabeticWord() {
+        return WordValidator.isValidAlphabeticWord(word);
+    }
+
+    @Benchmark
+    public String normalizeWordAlreadyNormal() {
+        return WordValidator.normalizeWord(word);
+    }
+
+    @Benchmark
+    public String normalizeWordPadded() {
+        return WordValidator.normalizeWord(rawWord);
+    }
+}
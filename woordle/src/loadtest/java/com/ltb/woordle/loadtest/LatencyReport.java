@@ -0,0 +1,82 @@
+package com.ltb.woordle.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint request counts, errors and latency histograms, safe to record into from every player thread.
+ * Latencies are kept in microseconds with three significant digits.
+ */
+final class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+
+    private static final class Endpoint {
+        final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * @param endpoint   the endpoint label, e.g. "POST /api/games"
+     * @param startNanos when the request was sent
+     * @param ok         whether the response was the expected one
+     */
+    void record(@NotNull String endpoint, long startNanos, boolean ok) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        stats.latencies.recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+        if (!ok) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Prints one row per endpoint plus a total.
+     *
+     * @param out     where to print
+     * @param elapsed the wall-clock time requests were recorded over, for requests per second
+     */
+    void print(@NotNull PrintStream out, @NotNull Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        String format = "%-28s %9s %7s %9s %9s %9s %9s %9s %9s%n";
+        out.printf(format, "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Histogram latencies = entry.getValue().latencies.copy();
+            long errors = entry.getValue().errors.sum();
+            total.add(latencies);
+            totalErrors += errors;
+            printRow(out, format, entry.getKey(), latencies, errors, seconds);
+        }
+        printRow(out, format, "total", total, totalErrors, seconds);
+    }
+
+    private static void printRow(PrintStream out, String format, String name, Histogram latencies,
+                                 long errors, double seconds) {
+        out.printf(format, name,
+                latencies.getTotalCount(),
+                errors,
+                String.format("%.1f", latencies.getTotalCount() / seconds),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
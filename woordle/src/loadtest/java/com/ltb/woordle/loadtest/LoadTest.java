@@ -0,0 +1,82 @@
+package com.ltb.woordle.loadtest;
+
+import com.ltb.woordle.WoordleApplication;
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load test.
+ * <p>
+ * Starts a {@link StubWordsApi}, boots the app in the {@code loadtest} profile against it and an in-memory
+ * H2 database, then runs {@link SimulatedPlayer}s through register, login, start game and guesses.
+ * Prints requests per second and latency percentiles per endpoint when the run ends.
+ * Run with {@code ./gradlew loadTest}; see {@link LoadTestConfig} for the knobs.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+        throw new UnsupportedOperationException("LoadTest is an entry point and is not meant to be instantiated.");
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LocalDictionaryProvider dictionary = new LocalDictionaryProvider(new ClassPathResource("dictionary/en.txt"));
+
+        try (StubWordsApi stub = StubWordsApi.start(dictionary.getWords(),
+                config.stubLatency(), config.stubJitter(), config.stubErrorRate());
+             ConfigurableApplicationContext app = new SpringApplicationBuilder(WoordleApplication.class)
+                     .profiles("loadtest")
+                     // As a command-line argument, so it overrides dictionary.base-url from application.properties
+                     .run(withArgument(args, "--dictionary.base-url=" + stub.baseUrl()))) {
+
+            String baseUrl = "http://localhost:" + app.getEnvironment().getRequiredProperty("local.server.port");
+            System.out.printf("Load test: %d players for %s after %s ramp-up against %s%n",
+                    config.players(), config.duration(), config.rampUp(), baseUrl);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LatencyReport report = new LatencyReport();
+            LongAdder failures = new LongAdder();
+
+            long start = System.nanoTime();
+            long deadline = start + config.rampUp().toNanos() + config.duration().toNanos();
+            long spacingNanos = config.rampUp().toNanos() / Math.max(1, config.players());
+            String runId = Long.toString(System.currentTimeMillis(), 36);
+
+            ExecutorService players = Executors.newFixedThreadPool(config.players());
+            for (int i = 0; i < config.players(); i++) {
+                players.execute(new SimulatedPlayer(client, baseUrl, "player-" + runId + "-" + i,
+                        config, dictionary.getWords(), report, deadline, failures));
+                TimeUnit.NANOSECONDS.sleep(spacingNanos);
+            }
+            players.shutdown();
+            if (!players.awaitTermination(config.duration().toSeconds() + 60, TimeUnit.SECONDS)) {
+                players.shutdownNow();
+            }
+
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            System.out.println();
+            report.print(System.out, elapsed);
+            System.out.printf("%nPlayers lost to connection failures: %d%n", failures.sum());
+            System.out.printf("Stub WordsAPI: %d requests, %d injected errors%n", stub.getRequests(), stub.getErrors());
+        }
+    }
+
+    private static String[] withArgument(String[] args, String argument) {
+        String[] all = Arrays.copyOf(args, args.length + 1);
+        all[args.length] = argument;
+        return all;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ltb.woordle.loadtest;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties (Gradle passes {@code -Ploadtest.*} through).
+ *
+ * @param players          concurrent simulated players
+ * @param duration         how long players keep starting new games, after ramp-up
+ * @param rampUp           time over which players are started, evenly spread
+ * @param wordLength       the word length of every game
+ * @param unknownGuessRate fraction of guesses that are not in the local word list, so they go to the stub API
+ * @param stubLatency      base latency of every stub WordsAPI response
+ * @param stubJitter       extra uniformly random latency on top of stubLatency
+ * @param stubErrorRate    fraction of stub WordsAPI responses that are 503s
+ */
+record LoadTestConfig(int players, Duration duration, Duration rampUp, int wordLength, double unknownGuessRate,
+                      Duration stubLatency, Duration stubJitter, double stubErrorRate) {
+
+    @NotNull
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.parseInt(property("players", "100")),
+                duration("duration", "60s"),
+                duration("ramp-up", "10s"),
+                Integer.parseInt(property("word-length", "5")),
+                Double.parseDouble(property("unknown-guess-rate", "0.1")),
+                duration("stub-latency", "50ms"),
+                duration("stub-jitter", "25ms"),
+                Double.parseDouble(property("stub-error-rate", "0.01")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static Duration duration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(property(name, defaultValue));
+    }
+}
@@ -0,0 +1,172 @@
+package com.ltb.woordle.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One player going through the real browser flow over HTTP: register, log in, then play games back to back
+ * until the deadline. The session cookie and CSRF token are tracked by hand, so all players can share one client.
+ */
+final class SimulatedPlayer implements Runnable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PASSWORD = "load-test-password";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String username;
+    private final LoadTestConfig config;
+    private final LengthIndexedWordSet words;
+    private final LatencyReport report;
+    private final long deadlineNanos;
+    private final LongAdder failures;
+
+    private String sessionCookie;
+    private String csrfHeader;
+    private String csrfToken;
+
+    SimulatedPlayer(@NotNull HttpClient client, @NotNull String baseUrl, @NotNull String username,
+                    @NotNull LoadTestConfig config, @NotNull LengthIndexedWordSet words,
+                    @NotNull LatencyReport report, long deadlineNanos, @NotNull LongAdder failures) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.config = config;
+        this.words = words;
+        this.report = report;
+        this.deadlineNanos = deadlineNanos;
+        this.failures = failures;
+    }
+
+    @Override
+    public void run() {
+        try {
+            fetchCsrfToken();
+            if (!register() || !logIn()) {
+                return;
+            }
+            // Logging in starts a new session with a new token
+            fetchCsrfToken();
+
+            while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+                playGame();
+            }
+        } catch (IOException e) {
+            failures.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void playGame() throws IOException, InterruptedException {
+        HttpResponse<String> started = send("POST /api/games",
+                post("/api/games?length=" + config.wordLength(), ""), 200);
+        if (started.statusCode() != 200) {
+            return;
+        }
+
+        for (int attempt = 0; attempt < 6; attempt++) {
+            String guess = nextGuess();
+            HttpResponse<String> response = send("POST /api/games/guesses",
+                    post("/api/games/guesses?guess=" + guess, ""), 200, 400);
+            if (response.statusCode() != 200) {
+                // Rejected guesses do not use up an attempt
+                continue;
+            }
+            String status = MAPPER.readTree(response.body()).path("status").asText();
+            if (!"IN_PROGRESS".equals(status)) {
+                return;
+            }
+        }
+    }
+
+    private String nextGuess() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() >= config.unknownGuessRate()) {
+            return words.randomWord(config.wordLength(), random);
+        }
+        // Almost certainly not in the local list, so it goes to the stub API
+        char[] letters = new char[config.wordLength()];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    private void fetchCsrfToken() throws IOException, InterruptedException {
+        HttpResponse<String> response = send("GET /api/csrf", request("/api/csrf").GET(), 200);
+        JsonNode token = MAPPER.readTree(response.body());
+        csrfHeader = token.path("headerName").asText();
+        csrfToken = token.path("token").asText();
+    }
+
+    private boolean register() throws IOException, InterruptedException {
+        String form = "username=" + encode(username) + "&password=" + encode(PASSWORD)
+                + "&email=" + encode(username + "@loadtest.local");
+        return send("POST /register", post("/register", form), 201).statusCode() == 201;
+    }
+
+    private boolean logIn() throws IOException, InterruptedException {
+        String form = "username=" + encode(username) + "&password=" + encode(PASSWORD);
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(post("/login", form).build(), HttpResponse.BodyHandlers.ofString());
+        String location = response.headers().firstValue("Location").orElse("");
+        // Form login answers with a redirect either way; only the failure one carries "error"
+        boolean ok = response.statusCode() == 302 && !location.contains("error");
+        report.record("POST /login", start, ok);
+        keepSessionCookie(response);
+        return ok;
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder request, int... expectedStatuses)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        boolean ok = false;
+        for (int expected : expectedStatuses) {
+            ok |= response.statusCode() == expected;
+        }
+        report.record(endpoint, start, ok);
+        keepSessionCookie(response);
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (sessionCookie != null) {
+            request.header("Cookie", sessionCookie);
+        }
+        return request;
+    }
+
+    private HttpRequest.Builder post(String path, String form) {
+        return request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header(csrfHeader, csrfToken)
+                .POST(HttpRequest.BodyPublishers.ofString(form));
+    }
+
+    private void keepSessionCookie(HttpResponse<?> response) {
+        for (String cookie : response.headers().allValues("Set-Cookie")) {
+            if (cookie.startsWith("JSESSIONID=")) {
+                sessionCookie = cookie.substring(0, cookie.indexOf(';') > 0 ? cookie.indexOf(';') : cookie.length());
+            }
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
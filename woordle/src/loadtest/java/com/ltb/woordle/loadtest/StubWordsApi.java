@@ -0,0 +1,121 @@
+package com.ltb.woordle.loadtest;
+
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for the WordsAPI endpoints the app calls, with configurable latency and error rate.
+ * <p>
+ * {@code GET /words/?letters=n&random=true} returns a random word of that length, and {@code GET /{word}}
+ * returns 200 for words in the given word set and 404 otherwise, like the real API.
+ */
+final class StubWordsApi implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LengthIndexedWordSet words;
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double errorRate;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private StubWordsApi(LengthIndexedWordSet words, Duration latency, Duration jitter, double errorRate) throws IOException {
+        this.words = words;
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // Handlers sleep to simulate latency, so give them plenty of threads
+        this.executor = Executors.newFixedThreadPool(128);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    @NotNull
+    static StubWordsApi start(@NotNull LengthIndexedWordSet words, @NotNull Duration latency,
+                              @NotNull Duration jitter, double errorRate) throws IOException {
+        StubWordsApi stub = new StubWordsApi(words, latency, jitter, errorRate);
+        stub.server.start();
+        return stub;
+    }
+
+    @NotNull
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    long getRequests() {
+        return requests.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            long delay = latencyNanos + (jitterNanos > 0 ? random.nextLong(jitterNanos) : 0);
+            if (delay > 0) {
+                Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (random.nextDouble() < errorRate) {
+            errors.increment();
+            respond(exchange, 503, "{\"message\":\"stub error\"}");
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        if (path.startsWith("/words") && query != null && query.contains("random=true")) {
+            int length = Integer.parseInt(query.replaceAll(".*letters=(\\d+).*", "$1"));
+            if (words.size(length) == 0) {
+                respond(exchange, 404, "{\"message\":\"word not found\"}");
+            } else {
+                respond(exchange, 200, "{\"word\":\"" + words.randomWord(length, random) + "\"}");
+            }
+            return;
+        }
+
+        String word = path.substring(1);
+        if (words.contains(word)) {
+            respond(exchange, 200, "{\"word\":\"" + word + "\"}");
+        } else {
+            respond(exchange, 404, "{\"message\":\"word not found\"}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -1,24 +1,71 @@
 package com.ltb.woordle.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Clock;
+import java.time.Duration;
+
+// Scheduled tasks share the spring.task.scheduling pool, sized in application.properties
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
+    // Pooled by Apache HttpClient, with timeouts so a slow dictionary API cannot hold a thread indefinitely.
+    // The pool is sized like the AsyncDictionaryClient's; HttpClient's own default allows only 5 connections per route
     @Bean
     public RestTemplate restTemplate(
-            RestTemplateBuilder restTemplateBuilder) {
-        return restTemplateBuilder.build();
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${dictionary.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${dictionary.client.read-timeout:3s}") Duration readTimeout,
+            @Value("${dictionary.client.max-connections:50}") int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                // Every request goes to the same host, so one route may use the whole pool
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    // Injected wherever "today" matters, so tests can pin the date
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
     }
 
-    // Explicit bean for ObjectMapper
+    // Explicit bean for ObjectMapper; also used by Spring MVC, so it needs java.time support for dates in responses
     @Bean
     public ObjectMapper objectMapper() {
-        return new ObjectMapper();
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
 
 
@@ -0,0 +1,20 @@
+package com.ltb.woordle.controllers;
+
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class CsrfController {
+
+    // Lets script and API clients fetch the session's CSRF token; send it back in the named header
+    @GetMapping("/api/csrf")
+    public Map<String, String> csrf(CsrfToken token) {
+        return Map.of("headerName", token.getHeaderName(),
+                "parameterName", token.getParameterName(),
+                "token", token.getToken());
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.daily.DailyPuzzleService;
+import com.ltb.woordle.models.DailyStats;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/daily")
+public class DailyController {
+
+    private final DailyPuzzleService dailyPuzzleService;
+
+    public DailyController(DailyPuzzleService dailyPuzzleService) {
+        this.dailyPuzzleService = dailyPuzzleService;
+    }
+
+    // Aggregate results for a day's puzzle, today by default
+    @GetMapping("/stats")
+    public DailyStats getStats(@RequestParam(defaultValue = "5") int length,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
+        return dailyPuzzleService.getStats(day == null ? dailyPuzzleService.today() : day, length);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+}
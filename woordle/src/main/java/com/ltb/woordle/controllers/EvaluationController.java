@@ -0,0 +1,40 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.models.EvaluationRequest;
+import com.ltb.woordle.services.BatchEvaluationService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/evaluations")
+public class EvaluationController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final BatchEvaluationService batchEvaluationService;
+
+    public EvaluationController(BatchEvaluationService batchEvaluationService) {
+        this.batchEvaluationService = batchEvaluationService;
+    }
+
+    /**
+     * Evaluates a batch of guesses, e.g. {@code {"answer":"crane","guesses":["slate","trace"]}}
+     * or {@code {"pairs":[{"guess":"slate","answer":"crane"}]}}.
+     * Results are streamed back one JSON object per line, in request order.
+     */
+    @PostMapping(produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> evaluate(@RequestBody EvaluationRequest request) {
+        batchEvaluationService.checkRequest(request);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(out -> batchEvaluationService.evaluate(request, out));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadBatch(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+}
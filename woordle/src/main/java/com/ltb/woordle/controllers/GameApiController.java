@@ -0,0 +1,54 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.services.GameService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/games")
+public class GameApiController {
+
+    private final GameService gameService;
+
+    public GameApiController(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    @PostMapping
+    public Map<String, Object> startGame(Principal principal, @RequestParam(defaultValue = "5") int length,
+                                         @RequestParam(defaultValue = "false") boolean hard) {
+        gameService.startGame(principal.getName(), length, hard);
+        return Map.of("length", length, "hard", hard);
+    }
+
+    // Today's shared puzzle; guesses go through /guesses like any other game
+    @PostMapping("/daily")
+    public Map<String, Object> startDailyGame(Principal principal, @RequestParam(defaultValue = "5") int length,
+                                              @RequestParam(defaultValue = "false") boolean hard) {
+        ActiveGame game = gameService.startDailyGame(principal.getName(), length, hard);
+        return Map.of("length", length, "day", game.getDay(), "hard", hard);
+    }
+
+    @PostMapping("/guesses")
+    public GuessResult guess(Principal principal, @RequestParam String guess) {
+        return gameService.guess(principal.getName(), guess);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, DictionaryServiceException.class})
+    public ResponseEntity<String> handleInvalidGuess(RuntimeException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleNoGame(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+}
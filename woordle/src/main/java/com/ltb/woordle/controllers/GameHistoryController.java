@@ -0,0 +1,38 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.models.GameHistoryPage;
+import com.ltb.woordle.models.GuessDistribution;
+import com.ltb.woordle.services.GameHistoryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/history")
+public class GameHistoryController {
+
+    private final GameHistoryService gameHistoryService;
+
+    public GameHistoryController(GameHistoryService gameHistoryService) {
+        this.gameHistoryService = gameHistoryService;
+    }
+
+    @GetMapping
+    public GameHistoryPage getHistory(Principal principal,
+                                      @RequestParam(required = false) Long before,
+                                      @RequestParam(defaultValue = "20") int limit) {
+        return gameHistoryService.getHistory(principal.getName(), before, limit);
+    }
+
+    @GetMapping("/distribution")
+    public GuessDistribution getDistribution(Principal principal, @RequestParam(defaultValue = "5") int length) {
+        return gameHistoryService.getDistribution(principal.getName(), length);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.tokens.GameTokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.Map;
+
+// Same game as /api/games, but the client carries the game as a token; see GameTokenService
+@RestController
+@RequestMapping("/api/token-games")
+@ConditionalOnProperty(name = "game.tokens.enabled", havingValue = "true")
+public class GameTokenController {
+
+    private final GameTokenService gameTokenService;
+
+    public GameTokenController(GameTokenService gameTokenService) {
+        this.gameTokenService = gameTokenService;
+    }
+
+    @PostMapping
+    public Map<String, Object> startGame(Principal principal, @RequestParam(defaultValue = "5") int length,
+                                         @RequestParam(defaultValue = "false") boolean hard) {
+        String token = gameTokenService.startGame(principal.getName(), length, hard);
+        return Map.of("length", length, "hard", hard, "token", token);
+    }
+
+    @PostMapping("/guesses")
+    public GuessResult guess(Principal principal, @RequestParam String token, @RequestParam String guess) {
+        return gameTokenService.guess(principal.getName(), token, guess);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, DictionaryServiceException.class})
+    public ResponseEntity<String> handleInvalidGuess(RuntimeException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleFinishedGame(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+}
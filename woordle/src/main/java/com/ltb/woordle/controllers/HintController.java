@@ -0,0 +1,37 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.models.Hint;
+import com.ltb.woordle.services.HintService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/hints")
+public class HintController {
+
+    private final HintService hintService;
+
+    public HintController(HintService hintService) {
+        this.hintService = hintService;
+    }
+
+    /**
+     * Suggests the next guess, e.g. {@code GET /api/hints?length=5&guesses=crane,moist&feedback=AAPAA,CAACA}.
+     */
+    @GetMapping
+    public Hint getHint(@RequestParam(defaultValue = "5") int length,
+                        @RequestParam(required = false) List<String> guesses,
+                        @RequestParam(required = false) List<String> feedback) {
+        return hintService.getHint(length,
+                guesses == null ? List.of() : guesses,
+                feedback == null ? List.of() : feedback);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadHintRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.leaderboard.LeaderboardService;
+import com.ltb.woordle.models.LeaderboardEntry;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+public class LeaderboardController {
+
+    private static final int MAX_PAGE = 100;
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @GetMapping
+    public List<LeaderboardEntry> getTop(@RequestParam(defaultValue = "10") int limit) {
+        return leaderboardService.getTop(Math.min(limit, MAX_PAGE));
+    }
+
+    // The current user's neighbourhood on the leaderboard
+    @GetMapping("/me")
+    public List<LeaderboardEntry> getAroundMe(Principal principal, @RequestParam(defaultValue = "5") int radius) {
+        int rank = leaderboardService.getRank(principal.getName());
+        return rank < 0 ? List.of() : leaderboardService.getAround(rank, Math.min(radius, MAX_PAGE / 2));
+    }
+
+    @GetMapping("/around")
+    public List<LeaderboardEntry> getAround(@RequestParam int rank, @RequestParam(defaultValue = "5") int radius) {
+        return leaderboardService.getAround(rank, Math.min(radius, MAX_PAGE / 2));
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.matches.MatchService;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.models.MatchBoard;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.Principal;
+import java.util.Map;
+
+// Head-to-head matches; anyone logged in may watch /stream, see MatchService
+@RestController
+@RequestMapping("/api/matches")
+public class MatchController {
+
+    private final MatchService matchService;
+
+    public MatchController(MatchService matchService) {
+        this.matchService = matchService;
+    }
+
+    @PostMapping
+    public Map<String, Object> createMatch(Principal principal, @RequestParam(defaultValue = "5") int length) {
+        String id = matchService.createMatch(principal.getName(), length);
+        return Map.of("id", id, "length", length);
+    }
+
+    @PostMapping("/{id}/players")
+    public MatchBoard join(Principal principal, @PathVariable String id) {
+        matchService.join(id, principal.getName());
+        return matchService.getBoard(id);
+    }
+
+    @PostMapping("/{id}/guesses")
+    public GuessResult guess(Principal principal, @PathVariable String id, @RequestParam String guess) {
+        return matchService.guess(id, principal.getName(), guess);
+    }
+
+    @GetMapping("/{id}")
+    public MatchBoard board(@PathVariable String id) {
+        return matchService.getBoard(id);
+    }
+
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable String id) {
+        return matchService.subscribe(id);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, DictionaryServiceException.class})
+    public ResponseEntity<String> handleInvalidRequest(RuntimeException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleConflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.models.User;
+import com.ltb.woordle.services.UserService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class RegistrationController {
+
+    private final UserService userService;
+
+    public RegistrationController(UserService userService) {
+        this.userService = userService;
+    }
+
+    @PostMapping("/register")
+    public ResponseEntity<Map<String, String>> register(@RequestParam String username,
+                                                        @RequestParam String password,
+                                                        @RequestParam String email) {
+        if (username.isBlank() || password.isBlank() || email.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Username, password and email are required."));
+        }
+        if (userService.getUserByUsername(username) != null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Username is taken."));
+        }
+
+        try {
+            userService.createNewUser(User.builder()
+                    .username(username)
+                    .password(password)
+                    .email(email)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // The check above can miss a taken email, a concurrent registration or a user not yet on the replica
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Username or email is taken."));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("username", username));
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.ltb.woordle.daily;
+
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.models.DailyStats;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Daily shared puzzle: every player gets the same answer for a given day and word length.
+ * <p>
+ * Answers come from a {@link DailySchedule} built once at startup from a curated answer list
+ * (daily.answer-list), restricted to words of the local dictionary so every answer can be guessed.
+ * The schedule's seed is a secret (daily.seed), since the answer list ships with the code.
+ * Today's answers are resolved once when the day rolls over and then served from memory,
+ * so starting a daily game never touches the dictionary API.
+ * Per-day aggregate results are tallied in memory as games finish, so reading them is a copy of a few counters.
+ * Days are in the clock's time zone (UTC by default); tallies older than the retention window are dropped.
+ */
+@Service
+public class DailyPuzzleService {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyPuzzleService.class);
+
+    private final DailySchedule schedule;
+
+    private final Clock clock;
+
+    private final int[] lengths;
+
+    private final int maxAttempts;
+
+    private final int retentionDays;
+
+    private final ConcurrentHashMap<DayKey, DayTally> tallies = new ConcurrentHashMap<>();
+
+    private volatile Today today;
+
+    @Autowired
+    public DailyPuzzleService(LocalDictionaryProvider localProvider, Clock clock,
+                              @Value("${daily.answer-list:}") Resource answerList,
+                              @Value("${daily.seed:}") String seed,
+                              @Value("${daily.require-seed:false}") boolean requireSeed,
+                              @Value("${daily.epoch:2026-01-01}") String epoch,
+                              @Value("${daily.lengths:5}") int[] lengths,
+                              @Value("${game.max-attempts:6}") int maxAttempts,
+                              @Value("${daily.stats-retention-days:7}") int retentionDays) {
+        this(answerList != null ? localProvider.subset(answerList) : localProvider.getWords(), clock,
+                parseSeed(seed, requireSeed), epoch, lengths, maxAttempts, retentionDays);
+    }
+
+    /**
+     * @param answers the words answers are drawn from
+     * @param seed    the schedule's shuffle seed, which must stay secret: with it, anyone holding the
+     *                answer list can compute every future answer
+     */
+    public DailyPuzzleService(LengthIndexedWordSet answers, Clock clock, long seed, String epoch, int[] lengths,
+                              int maxAttempts, int retentionDays) {
+        this.schedule = new DailySchedule(answers, seed, LocalDate.parse(epoch), lengths);
+        this.clock = clock;
+        this.lengths = lengths.clone();
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    // Without a configured seed, e.g. in local development, the schedule is only stable until the next restart
+    private static long parseSeed(String seed, boolean requireSeed) {
+        if (seed != null && !seed.isBlank()) {
+            return Long.parseLong(seed.trim());
+        }
+        if (requireSeed) {
+            throw new IllegalStateException("daily.seed must be set, e.g. from DAILY_SEED, when daily.require-seed is true");
+        }
+        log.warn("daily.seed is not set; using a random seed, so daily answers change on restart and differ between nodes");
+        return new SecureRandom().nextLong();
+    }
+
+    /**
+     * Today's answers, resolved once per day.
+     */
+    private record Today(LocalDate day, String[] answers) {
+    }
+
+    private record DayKey(LocalDate day, int length) {
+    }
+
+    /**
+     * Who played a day's puzzle and how it went; results[0] counts losses, results[n] wins in n attempts.
+     */
+    private static final class DayTally {
+        final Set<String> players = ConcurrentHashMap.newKeySet();
+        final AtomicIntegerArray results;
+
+        DayTally(int maxAttempts) {
+            this.results = new AtomicIntegerArray(maxAttempts + 1);
+        }
+    }
+
+    /**
+     * @return the current day in the puzzle's time zone
+     */
+    @NotNull
+    public LocalDate today() {
+        return currentDay().day();
+    }
+
+    /**
+     * @param length the word length
+     * @return today's answer for that length
+     * @throws IllegalArgumentException if there is no daily puzzle for that length
+     */
+    @NotNull
+    public String getAnswer(int length) {
+        return getAnswer(today(), length);
+    }
+
+    /**
+     * @param day    the day
+     * @param length the word length
+     * @return the answer for that day and length
+     * @throws IllegalArgumentException if there is no daily puzzle for that length
+     */
+    @NotNull
+    public String getAnswer(@NotNull LocalDate day, int length) {
+        Today current = currentDay();
+        if (current.day().equals(day) && schedule.isScheduled(length)) {
+            return current.answers()[length];
+        }
+        return schedule.answerFor(day, length);
+    }
+
+    /**
+     * Claims a player's one attempt at a day's puzzle.
+     *
+     * @param username the player
+     * @param day      the day
+     * @param length   the word length
+     * @return true if this is the player's first start of that puzzle, false if they already played it
+     */
+    public boolean markPlayed(@NotNull String username, @NotNull LocalDate day, int length) {
+        return tally(day, length).players.add(username);
+    }
+
+    /**
+     * Adds a finished daily game to its day's tally.
+     *
+     * @param day      the day the game was started on
+     * @param length   the word length
+     * @param won      whether the player won
+     * @param attempts the attempts used
+     */
+    public void recordResult(@NotNull LocalDate day, int length, boolean won, int attempts) {
+        AtomicIntegerArray results = tally(day, length).results;
+        results.incrementAndGet(won ? Math.min(attempts, maxAttempts) : 0);
+    }
+
+    /**
+     * @param day    the day
+     * @param length the word length
+     * @return the aggregate results of that day's puzzle so far
+     * @throws IllegalArgumentException if there is no daily puzzle for that length
+     */
+    @NotNull
+    public DailyStats getStats(@NotNull LocalDate day, int length) {
+        if (!schedule.isScheduled(length)) {
+            throw new IllegalArgumentException("No daily puzzle for length " + length);
+        }
+
+        int[] wins = new int[maxAttempts];
+        int losses = 0;
+        int players = 0;
+        DayTally tally = tallies.get(new DayKey(day, length));
+        if (tally != null) {
+            players = tally.players.size();
+            losses = tally.results.get(0);
+            for (int i = 0; i < maxAttempts; i++) {
+                wins[i] = tally.results.get(i + 1);
+            }
+        }
+
+        int finished = losses;
+        for (int count : wins) {
+            finished += count;
+        }
+        return DailyStats.builder()
+                .day(day)
+                .wordLength(length)
+                .players(players)
+                .finished(finished)
+                .wins(wins)
+                .losses(losses)
+                .build();
+    }
+
+    private DayTally tally(LocalDate day, int length) {
+        if (!schedule.isScheduled(length)) {
+            throw new IllegalArgumentException("No daily puzzle for length " + length);
+        }
+        return tallies.computeIfAbsent(new DayKey(day, length), key -> new DayTally(maxAttempts));
+    }
+
+    private Today currentDay() {
+        LocalDate day = LocalDate.now(clock);
+        Today current = today;
+        if (current != null && current.day().equals(day)) {
+            return current;
+        }
+        return rollOver(day);
+    }
+
+    private synchronized Today rollOver(LocalDate day) {
+        Today current = today;
+        if (current != null && current.day().equals(day)) {
+            return current;
+        }
+
+        String[] answers = new String[LengthIndexedWordSet.MAX_LENGTH + 1];
+        for (int length : lengths) {
+            answers[length] = schedule.answerFor(day, length);
+        }
+        LocalDate oldest = day.minusDays(retentionDays);
+        tallies.keySet().removeIf(key -> key.day().isBefore(oldest));
+
+        current = new Today(day, answers);
+        today = current;
+        return current;
+    }
+}
@@ -0,0 +1,83 @@
+package com.ltb.woordle.daily;
+
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic schedule of daily answers, one per day for each scheduled word length.
+ * <p>
+ * For each length, the word list is shuffled once with a fixed seed, and day {@code n} after the epoch
+ * gets the {@code n}-th word of the shuffle, wrapping around once every word has been used.
+ * The same word list, seed and epoch always give the same schedule, on every node and across restarts.
+ */
+public final class DailySchedule {
+
+    private final LengthIndexedWordSet words;
+    private final LocalDate epoch;
+
+    // Indexed by word length; null for lengths that are not scheduled
+    private final int[][] order;
+
+    /**
+     * Shuffles the word list for every scheduled length.
+     *
+     * @param words   the word list answers are drawn from
+     * @param seed    the shuffle seed
+     * @param epoch   the day that gets the first word of each shuffle
+     * @param lengths the word lengths to schedule
+     * @throws IllegalArgumentException if a length has no words
+     */
+    public DailySchedule(@NotNull LengthIndexedWordSet words, long seed, @NotNull LocalDate epoch, int @NotNull ... lengths) {
+        this.words = words;
+        this.epoch = epoch;
+        this.order = new int[LengthIndexedWordSet.MAX_LENGTH + 1][];
+
+        for (int length : lengths) {
+            int size = words.size(length);
+            if (size == 0) {
+                throw new IllegalArgumentException("No words of length " + length + " to schedule");
+            }
+            order[length] = shuffle(size, new SplittableRandom(seed * 31 + length));
+        }
+    }
+
+    /**
+     * @param day    the day
+     * @param length the word length
+     * @return the answer scheduled for that day and length
+     * @throws IllegalArgumentException if the length is not scheduled
+     */
+    @NotNull
+    public String answerFor(@NotNull LocalDate day, int length) {
+        if (!isScheduled(length)) {
+            throw new IllegalArgumentException("No daily puzzle for length " + length);
+        }
+        int[] lengthOrder = order[length];
+        long dayNumber = ChronoUnit.DAYS.between(epoch, day);
+        return words.wordAt(length, lengthOrder[(int) Math.floorMod(dayNumber, lengthOrder.length)]);
+    }
+
+    public boolean isScheduled(int length) {
+        return length >= LengthIndexedWordSet.MIN_LENGTH && length <= LengthIndexedWordSet.MAX_LENGTH
+                && order[length] != null;
+    }
+
+    // Fisher-Yates over word indices, so no answer repeats until the whole list has been used
+    private static int[] shuffle(int size, SplittableRandom random) {
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indices[i];
+            indices[i] = indices[j];
+            indices[j] = swap;
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,138 @@
+package com.ltb.woordle.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Read-your-own-writes on top of the read replica.
+ * <p>
+ * Whatever writes a user's rows (their stats, finished games, or account) reports it here once the write
+ * has committed on the primary. For the next pin-after-write, that user's read-only queries go to the primary
+ * instead of a replica that may not have caught up yet, while everyone else keeps reading from the replica.
+ * The user is the one logged in on the current thread, or the one named by {@link #readAs}.
+ * Without a replica configured, nothing is tracked.
+ */
+@Component
+public class ReplicaLagGuard {
+
+    private static final ThreadLocal<String> READING_AS = new ThreadLocal<>();
+
+    private final boolean enabled;
+
+    // Users written within the pin window; the value is unused
+    private final Cache<String, Boolean> recentWrites;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+
+    public ReplicaLagGuard(@Value("${datasource.replica.url:}") String replicaUrl,
+                           @Value("${datasource.replica.pin-after-write:5s}") Duration pinAfterWrite,
+                           @Value("${datasource.replica.max-pinned-users:100000}") long maxPinnedUsers) {
+        this.enabled = StringUtils.hasText(replicaUrl);
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(maxPinnedUsers)
+                .expireAfterWrite(pinAfterWrite)
+                .build();
+    }
+
+    /**
+     * Sends the user's reads to the primary for the pin window, starting now.
+     *
+     * @param username the user whose rows were just written
+     */
+    public void recordWrite(@NotNull String username) {
+        if (enabled) {
+            recentWrites.put(username, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @return whether the user's reads currently go to the primary
+     */
+    public boolean isPinned(@NotNull String username) {
+        return enabled && recentWrites.getIfPresent(username) != null;
+    }
+
+    /**
+     * Runs reads on behalf of a user who is not logged in on this thread, such as one logging in.
+     *
+     * @param username the user the reads are for
+     * @param reads    the reads
+     * @return what the reads return
+     */
+    public <T> T readAs(@NotNull String username, @NotNull Supplier<T> reads) {
+        String previous = READING_AS.get();
+        READING_AS.set(username);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                READING_AS.remove();
+            } else {
+                READING_AS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Decides where a read-only connection opened on this thread goes.
+     *
+     * @return true for the primary, false for the replica
+     */
+    public boolean readFromPrimary() {
+        String username = currentUser();
+        if (username != null && isPinned(username)) {
+            pinnedReads.increment();
+            return true;
+        }
+        replicaReads.increment();
+        return false;
+    }
+
+    /**
+     * @return whether a replica is configured
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the number of users whose reads are pinned to the primary
+     */
+    public long getPinnedUsers() {
+        return recentWrites.estimatedSize();
+    }
+
+    /**
+     * @return how many read-only connections went to the replica
+     */
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    /**
+     * @return how many read-only connections went to the primary because their user had just written
+     */
+    public long getPinnedReads() {
+        return pinnedReads.sum();
+    }
+
+    private static String currentUser() {
+        String username = READING_AS.get();
+        if (username != null) {
+            return username;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
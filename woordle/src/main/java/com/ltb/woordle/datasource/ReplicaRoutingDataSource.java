@@ -0,0 +1,31 @@
+package com.ltb.woordle.datasource;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Where read-only connections come from: the replica, unless the {@link ReplicaLagGuard} pins
+ * the current user to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagGuard lagGuard;
+
+    public ReplicaRoutingDataSource(@NotNull DataSource primary, @NotNull DataSource replica,
+                                    @NotNull ReplicaLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return lagGuard.readFromPrimary() ? Target.PRIMARY : Target.REPLICA;
+    }
+}
@@ -0,0 +1,164 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-blocking WordsAPI client for word validation.
+ * <p>
+ * Requests run on a small pool of I/O reactor threads over pooled connections with explicit
+ * connect and read timeouts, so no caller thread waits on the network.
+ * Concurrent lookups of the same word share a single in-flight request and its result.
+ * Each request goes through the {@link DictionaryApiGuard}, once per request rather than once per waiter.
+ */
+@Component
+public class AsyncDictionaryClient {
+
+    private final CloseableHttpAsyncClient client;
+
+    private final DictionaryApiGuard guard;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${dictionary.api.key}")
+    private String apiKey;
+
+    @Value("${dictionary.base-url}")
+    private String baseUrl;
+
+    @Value("${dictionary.host}")
+    private String hostHeader;
+
+    public AsyncDictionaryClient(DictionaryApiGuard guard,
+                                 @Value("${dictionary.client.connect-timeout:2s}") Duration connectTimeout,
+                                 @Value("${dictionary.client.read-timeout:3s}") Duration readTimeout,
+                                 @Value("${dictionary.client.max-connections:50}") int maxConnections) {
+        this.guard = guard;
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                // Every request goes to the same host, so one route may use the whole pool
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+
+        this.client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+        this.client.start();
+    }
+
+    @PreDestroy
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+    }
+
+    /**
+     * Asks the dictionary API whether a word exists, without blocking.
+     * A lookup already in flight for the same word is joined instead of sending another request.
+     *
+     * @param word the normalized word to look up
+     * @return a future completing with true if the word exists, false on a 404, or exceptionally with a
+     * {@link DictionaryServiceException} on any other failure
+     * @throws IllegalArgumentException if word is null or empty
+     */
+    @Contract("null -> fail")
+    @NotNull
+    public CompletableFuture<Boolean> isValidWord(String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("Word passed to dictionary validation cannot be null or empty");
+        }
+
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(word, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Forget the request once it settles so later lookups go through the cache or a fresh request
+        created.whenComplete((valid, failure) -> inFlight.remove(word, created));
+        guard.executeAsync(() -> send(word)).whenComplete((valid, failure) -> {
+            if (failure != null) {
+                created.completeExceptionally(failure);
+            } else {
+                created.complete(valid);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * @return the number of distinct words currently being looked up
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private CompletableFuture<Boolean> send(String word) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        SimpleHttpRequest request = SimpleRequestBuilder.get(baseUrl + "/" + word)
+                // RapidAPI requires these headers for authentication
+                .addHeader("x-rapidapi-host", hostHeader)
+                .addHeader("x-rapidapi-key", apiKey)
+                .build();
+
+        try {
+            client.execute(request, new FutureCallback<>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    int status = response.getCode();
+                    if (status >= 200 && status < 300) {
+                        result.complete(true);
+                    } else if (status == 404) {
+                        // 404 = word doesn't exist - this is expected, not an error
+                        result.complete(false);
+                    } else if (status == 401) {
+                        result.completeExceptionally(new DictionaryServiceException("Dictionary API authentication failed"));
+                    } else if (status >= 400 && status < 500) {
+                        result.completeExceptionally(new DictionaryServiceException("Dictionary API client error: " + status));
+                    } else {
+                        result.completeExceptionally(new DictionaryServiceException("Dictionary API server error: " + status));
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    result.completeExceptionally(new DictionaryServiceException("Cannot reach dictionary API", e));
+                }
+
+                @Override
+                public void cancelled() {
+                    result.completeExceptionally(new DictionaryServiceException("Dictionary API request was cancelled"));
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(new DictionaryServiceException("Failed to validate word", e));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,231 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.exceptions.DictionaryUnavailableException;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.ltb.woordle.metrics.WoordleMetrics.ApiOutcome;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and concurrency bulkhead around every outbound dictionary API call.
+ * <p>
+ * The breaker opens when the failure rate or the slow-call rate over a sliding window crosses its threshold,
+ * and while open, calls are refused immediately instead of waiting on a struggling API.
+ * The bulkhead caps how many calls may be in flight at once and refuses the rest without queueing.
+ * Only calls both let through reach the {@link DictionaryApiThrottle}, which applies the rate limits and the
+ * monthly quota, so a refused call costs no tokens or quota.
+ * Refused calls surface as {@link DictionaryUnavailableException}, so callers can degrade gracefully.
+ * Every call is timed as woordle.dictionary.api, tagged success, error or rejected.
+ */
+@Component
+public class DictionaryApiGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(DictionaryApiGuard.class);
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Bulkhead bulkhead;
+
+    private final DictionaryApiThrottle throttle;
+
+    private final WoordleMetrics metrics;
+
+    private final Map<CircuitBreaker.State, AtomicLong> transitions = new EnumMap<>(CircuitBreaker.State.class);
+    private final AtomicLong rejectedByBreaker = new AtomicLong();
+    private final AtomicLong rejectedByBulkhead = new AtomicLong();
+
+    public DictionaryApiGuard(@Value("${dictionary.breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                              @Value("${dictionary.breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+                              @Value("${dictionary.breaker.slow-call-duration:1s}") Duration slowCallDuration,
+                              @Value("${dictionary.breaker.sliding-window-size:50}") int slidingWindowSize,
+                              @Value("${dictionary.breaker.minimum-calls:20}") int minimumCalls,
+                              @Value("${dictionary.breaker.open-duration:30s}") Duration openDuration,
+                              @Value("${dictionary.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+                              DictionaryApiThrottle throttle,
+                              WoordleMetrics metrics) {
+        this.throttle = throttle;
+        this.metrics = metrics;
+
+        CircuitBreakerConfig breakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(Math.max(1, minimumCalls / 4))
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // Only API failures count; a 404 is a normal "not a word" answer and bad input is the caller's fault
+                .recordExceptions(DictionaryServiceException.class)
+                .ignoreExceptions(DictionaryUnavailableException.class, IllegalArgumentException.class)
+                .build();
+
+        this.circuitBreaker = CircuitBreaker.of("dictionary-api", breakerConfig);
+        this.bulkhead = Bulkhead.of("dictionary-api", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            transitions.put(state, new AtomicLong());
+        }
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.State to = event.getStateTransition().getToState();
+            transitions.get(to).incrementAndGet();
+            log.warn("Dictionary API circuit breaker moved {}", event.getStateTransition());
+        });
+        circuitBreaker.getEventPublisher().onCallNotPermitted(event -> rejectedByBreaker.incrementAndGet());
+        bulkhead.getEventPublisher().onCallRejected(event -> rejectedByBulkhead.incrementAndGet());
+    }
+
+    /**
+     * Runs a blocking dictionary API call through the circuit breaker, bulkhead and throttle.
+     * The calling thread may wait briefly for the global rate limit, but only once the breaker and bulkhead
+     * have let the call through.
+     *
+     * @param call the API call
+     * @return the call's result
+     * @throws DictionaryUnavailableException if the call was refused without being made
+     * @throws DictionaryServiceException     if the call itself failed
+     */
+    public <T> T execute(@NotNull Supplier<T> call) {
+        long start = System.nanoTime();
+        acquirePermission(start, true);
+        long callStart = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess(System.nanoTime() - callStart, TimeUnit.NANOSECONDS);
+            metrics.recordApiCall(start, ApiOutcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - callStart, TimeUnit.NANOSECONDS, e);
+            metrics.recordApiCall(start, ApiOutcome.ERROR);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    /**
+     * Runs a non-blocking dictionary API call through the circuit breaker, bulkhead and throttle.
+     * The call is refused rather than delayed when rate limited, and the bulkhead slot is held until the
+     * returned stage completes.
+     *
+     * @param call starts the API call
+     * @return a future with the call's result, completing exceptionally with a
+     * {@link DictionaryUnavailableException} if the call was refused
+     */
+    @NotNull
+    public <T> CompletableFuture<T> executeAsync(@NotNull Supplier<CompletionStage<T>> call) {
+        long start = System.nanoTime();
+        try {
+            acquirePermission(start, false);
+        } catch (DictionaryUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long callStart = System.nanoTime();
+        CompletionStage<T> stage;
+        try {
+            stage = call.get();
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        return stage.toCompletableFuture()
+                .whenComplete((result, failure) -> {
+                    bulkhead.onComplete();
+                    if (failure == null) {
+                        circuitBreaker.onSuccess(System.nanoTime() - callStart, TimeUnit.NANOSECONDS);
+                        metrics.recordApiCall(start, ApiOutcome.SUCCESS);
+                    } else {
+                        circuitBreaker.onError(System.nanoTime() - callStart, TimeUnit.NANOSECONDS, unwrap(failure));
+                        metrics.recordApiCall(start, ApiOutcome.ERROR);
+                    }
+                })
+                .exceptionallyCompose(failure -> CompletableFuture.failedFuture(unwrap(failure)));
+    }
+
+    // Asks the breaker and the bulkhead before the throttle, so a refused call never parks the caller
+    // or spends rate limit tokens and monthly quota on a call that is not made
+    private void acquirePermission(long start, boolean mayWait) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            metrics.recordApiCall(start, ApiOutcome.REJECTED);
+            throw new DictionaryUnavailableException("Dictionary API circuit breaker is open",
+                    CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            metrics.recordApiCall(start, ApiOutcome.REJECTED);
+            throw new DictionaryUnavailableException("Too many dictionary API calls in flight",
+                    BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+        try {
+            throttle.acquire(mayWait);
+        } catch (RuntimeException e) {
+            bulkhead.onComplete();
+            circuitBreaker.releasePermission();
+            metrics.recordApiCall(start, ApiOutcome.REJECTED);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the circuit breaker's current state
+     */
+    @NotNull
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * @return how many times the breaker has moved into the given state
+     */
+    public long getTransitionCount(@NotNull CircuitBreaker.State state) {
+        return transitions.get(state).get();
+    }
+
+    /**
+     * @return how many calls the open breaker refused
+     */
+    public long getRejectedByBreaker() {
+        return rejectedByBreaker.get();
+    }
+
+    /**
+     * @return how many calls the full bulkhead refused
+     */
+    public long getRejectedByBulkhead() {
+        return rejectedByBulkhead.get();
+    }
+
+    /**
+     * @return how many more calls may start right now
+     */
+    public int getAvailableConcurrentCalls() {
+        return bulkhead.getMetrics().getAvailableConcurrentCalls();
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
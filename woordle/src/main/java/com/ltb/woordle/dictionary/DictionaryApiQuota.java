@@ -0,0 +1,211 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.metrics.WoordleMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts dictionary API calls against the monthly plan limit, persisted across restarts and shared by every node.
+ * <p>
+ * Calls are counted in memory with a compare-and-set, so taking quota never waits on the database.
+ * New calls are added to the month's row in {@code dictionary_api_usage} periodically, and each flush reads
+ * the total back, so calls made by other nodes count here within one flush interval.
+ * The month rolls over lazily on the first call after it ends; unflushed calls of the old month are still written.
+ * A limit of 0 or less disables the quota.
+ * <p>
+ * Depends on the entity manager factory so the final flush on shutdown runs before JPA closes, and with it
+ * before a create-drop schema is dropped.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class DictionaryApiQuota {
+
+    private static final Logger log = LoggerFactory.getLogger(DictionaryApiQuota.class);
+
+    private static final String ADD_CALLS = "UPDATE dictionary_api_usage SET calls = calls + ? WHERE billing_month = ?";
+    private static final String INSERT_MONTH = "INSERT INTO dictionary_api_usage (billing_month, calls) VALUES (?, ?)";
+    private static final String SELECT_CALLS = "SELECT calls FROM dictionary_api_usage WHERE billing_month = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Clock clock;
+
+    private final WoordleMetrics metrics;
+
+    private final long monthlyLimit;
+
+    private final AtomicReference<MonthlyUsage> current;
+
+    // Months that ended with calls still to flush
+    private final Queue<MonthlyUsage> ended = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong refused = new AtomicLong();
+
+    public DictionaryApiQuota(JdbcTemplate jdbcTemplate, Clock clock, WoordleMetrics metrics,
+                              @Value("${dictionary.quota.monthly-calls:0}") long monthlyLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.metrics = metrics;
+        this.monthlyLimit = monthlyLimit;
+        this.current = new AtomicReference<>(new MonthlyUsage(YearMonth.now(clock)));
+    }
+
+    /**
+     * Usage of one month: the best known total across nodes, and this node's calls not yet written.
+     */
+    private static final class MonthlyUsage {
+
+        private final YearMonth month;
+        private final long endsAtMillis;
+        private final AtomicLong used = new AtomicLong();
+        private final LongAdder unflushed = new LongAdder();
+
+        private MonthlyUsage(YearMonth month) {
+            this.month = month;
+            this.endsAtMillis = month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+    }
+
+    /**
+     * Counts one call against this month's quota, unless it is used up.
+     *
+     * @return true if the call may be made
+     */
+    public boolean tryConsume() {
+        MonthlyUsage usage = currentUsage();
+        long used;
+        do {
+            used = usage.used.get();
+            if (monthlyLimit > 0 && used >= monthlyLimit) {
+                refused.incrementAndGet();
+                return false;
+            }
+        } while (!usage.used.compareAndSet(used, used + 1));
+        usage.unflushed.increment();
+        return true;
+    }
+
+    /**
+     * Loads this month's usage once the schema is in place.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        flush();
+        log.info("Dictionary API usage for {}: {} of {} calls", current.get().month, getUsed(),
+                monthlyLimit > 0 ? monthlyLimit : "unlimited");
+    }
+
+    /**
+     * Adds this node's new calls to the stored totals and reads the current month's total back.
+     */
+    @Scheduled(fixedDelayString = "${dictionary.quota.flush-interval-ms:10000}")
+    public void flush() {
+        MonthlyUsage usage = currentUsage();
+        for (MonthlyUsage old = ended.poll(); old != null; old = ended.poll()) {
+            if (!write(old)) {
+                ended.add(old);
+                break;
+            }
+        }
+
+        if (write(usage)) {
+            try {
+                List<Long> stored = jdbcTemplate.queryForList(SELECT_CALLS, Long.class, usage.month.toString());
+                long total = (stored.isEmpty() ? 0 : stored.get(0)) + usage.unflushed.sum();
+                usage.used.accumulateAndGet(total, Math::max);
+            } catch (DataAccessException e) {
+                log.warn("Could not read dictionary API usage: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * @return the calls counted this month, including other nodes' as of the last flush
+     */
+    public long getUsed() {
+        return currentUsage().used.get();
+    }
+
+    /**
+     * @return the monthly limit, or 0 or less if there is none
+     */
+    public long getMonthlyLimit() {
+        return monthlyLimit;
+    }
+
+    /**
+     * @return how many calls were refused because the quota was used up
+     */
+    public long getRefusedCount() {
+        return refused.get();
+    }
+
+    // Writes a month's unflushed calls, keeping them for the next flush on failure
+    private boolean write(MonthlyUsage usage) {
+        long delta = usage.unflushed.sumThenReset();
+        if (delta == 0) {
+            return true;
+        }
+        long start = System.nanoTime();
+        try {
+            addCalls(usage.month.toString(), delta);
+            metrics.recordFlush("dictionary_api_usage", start, true);
+            return true;
+        } catch (DataAccessException e) {
+            metrics.recordFlush("dictionary_api_usage", start, false);
+            log.error("Failed to flush {} dictionary API calls for {}, will retry", delta, usage.month, e);
+            usage.unflushed.add(delta);
+            return false;
+        }
+    }
+
+    // Plain SQL every database runs: update the month's row, inserting it on the month's first flush.
+    // A node that loses the race to insert adds to the row the other node created.
+    private void addCalls(String month, long delta) {
+        if (jdbcTemplate.update(ADD_CALLS, delta, month) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_MONTH, month, delta);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(ADD_CALLS, delta, month);
+        }
+    }
+
+    private MonthlyUsage currentUsage() {
+        MonthlyUsage usage = current.get();
+        if (clock.millis() < usage.endsAtMillis) {
+            return usage;
+        }
+        MonthlyUsage next = new MonthlyUsage(YearMonth.now(clock));
+        if (current.compareAndSet(usage, next)) {
+            ended.add(usage);
+        }
+        return current.get();
+    }
+}
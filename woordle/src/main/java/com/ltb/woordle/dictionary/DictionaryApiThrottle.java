@@ -0,0 +1,144 @@
+package com.ltb.woordle.dictionary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ltb.woordle.exceptions.DictionaryRateLimitedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Rate limits and quota for outbound dictionary API calls, checked only once the circuit breaker and bulkhead
+ * have let a call through.
+ * <p>
+ * A global {@link TokenBucket} keeps the whole node under the API's rate limit, and a bucket per user stops one
+ * player from spending it for everyone. Calls outside a request (such as the random word pool refill) only
+ * take from the global bucket. Blocking callers may wait up to max-wait for a global permit; the per-user
+ * limit and non-blocking callers never wait. Finally every call counts against the {@link DictionaryApiQuota}.
+ * Permits taken before a later check refuses the call are given back.
+ */
+@Component
+public class DictionaryApiThrottle {
+
+    private static final String BACKGROUND = "";
+
+    private final TokenBucket global;
+
+    private final Cache<String, TokenBucket> users;
+
+    private final DictionaryApiQuota quota;
+
+    private final double userPerSecond;
+    private final int userBurst;
+    private final long maxWaitNanos;
+
+    private final AtomicLong throttledByGlobal = new AtomicLong();
+    private final AtomicLong throttledByUser = new AtomicLong();
+    private final AtomicLong throttledByQuota = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    public DictionaryApiThrottle(DictionaryApiQuota quota,
+                                 @Value("${dictionary.rate.global-per-second:10}") double globalPerSecond,
+                                 @Value("${dictionary.rate.global-burst:20}") int globalBurst,
+                                 @Value("${dictionary.rate.user-per-second:1}") double userPerSecond,
+                                 @Value("${dictionary.rate.user-burst:5}") int userBurst,
+                                 @Value("${dictionary.rate.max-wait:200ms}") Duration maxWait) {
+        this.quota = quota;
+        this.global = new TokenBucket(globalPerSecond, globalBurst);
+        this.userPerSecond = userPerSecond;
+        this.userBurst = userBurst;
+        this.maxWaitNanos = maxWait.toNanos();
+        // An idle user's bucket refills completely, so forgetting it then changes nothing
+        long refillNanos = (long) (userBurst * 1_000_000_000L / userPerSecond);
+        this.users = Caffeine.newBuilder()
+                .expireAfterAccess(Math.max(refillNanos, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    /**
+     * Takes a permit for one dictionary API call on behalf of the current user, waiting briefly for the
+     * global rate limit if allowed to.
+     *
+     * @param mayWait whether the calling thread may be parked until a global permit is free
+     * @throws DictionaryRateLimitedException if a rate limit or the monthly quota refused the call
+     */
+    public void acquire(boolean mayWait) {
+        String user = currentUser();
+        TokenBucket userBucket = user.isEmpty() ? null
+                : users.get(user, name -> new TokenBucket(userPerSecond, userBurst));
+
+        if (userBucket != null && !userBucket.tryAcquire()) {
+            throttledByUser.incrementAndGet();
+            throw new DictionaryRateLimitedException("Too many dictionary lookups, slow down");
+        }
+
+        long wait = global.reserve(mayWait ? maxWaitNanos : 0);
+        if (wait < 0) {
+            if (userBucket != null) {
+                userBucket.refund();
+            }
+            throttledByGlobal.incrementAndGet();
+            throw new DictionaryRateLimitedException("Dictionary API rate limit reached");
+        }
+
+        if (!quota.tryConsume()) {
+            global.refund();
+            if (userBucket != null) {
+                userBucket.refund();
+            }
+            throttledByQuota.incrementAndGet();
+            throw new DictionaryRateLimitedException("Monthly dictionary API quota used up");
+        }
+
+        if (wait > 0) {
+            waitNanos.addAndGet(wait);
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    /**
+     * @return how many calls the global rate limit refused
+     */
+    public long getThrottledByGlobal() {
+        return throttledByGlobal.get();
+    }
+
+    /**
+     * @return how many calls a per-user rate limit refused
+     */
+    public long getThrottledByUser() {
+        return throttledByUser.get();
+    }
+
+    /**
+     * @return how many calls the monthly quota refused
+     */
+    public long getThrottledByQuota() {
+        return throttledByQuota.get();
+    }
+
+    /**
+     * @return the total time callers have waited for a global permit, in nanoseconds
+     */
+    public long getWaitNanos() {
+        return waitNanos.get();
+    }
+
+    /**
+     * @return the number of users with a live rate limit bucket
+     */
+    public long getTrackedUsers() {
+        return users.estimatedSize();
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : BACKGROUND;
+    }
+}
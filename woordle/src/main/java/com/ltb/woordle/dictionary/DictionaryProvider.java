@@ -0,0 +1,33 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A source of dictionary words, used by {@link com.ltb.woordle.services.DictionaryService}
+ * to validate guesses and pick answers.
+ */
+public interface DictionaryProvider {
+
+    /**
+     * Checks whether a normalized (trimmed, lowercased) word exists in this dictionary.
+     *
+     * @param word the normalized word to look up
+     * @return true if the word exists, false otherwise
+     * @throws IllegalArgumentException   if word is null or empty
+     * @throws DictionaryServiceException if the dictionary cannot be consulted
+     */
+    boolean isValidWord(String word);
+
+    /**
+     * Picks a random alphabetic word of the given length.
+     *
+     * @param length length of the desired word; must be between 1 and 15
+     * @return a normalized random word of the specified length
+     * @throws IllegalArgumentException   if length is invalid or no word is available
+     * @throws DictionaryServiceException if the dictionary cannot be consulted
+     */
+    @NotNull
+    String getRandomWord(int length);
+
+}
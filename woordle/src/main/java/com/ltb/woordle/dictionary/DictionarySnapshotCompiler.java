@@ -0,0 +1,31 @@
+package com.ltb.woordle.dictionary;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Build-time entry point that compiles a word list into a {@link LengthIndexedWordSet} snapshot.
+ * Run by the compileDictionary Gradle task; the word list is parsed exactly as {@link LocalDictionaryProvider} does,
+ * so the snapshot holds the same words in the same order.
+ */
+public final class DictionarySnapshotCompiler {
+
+    private DictionarySnapshotCompiler() {
+        throw new UnsupportedOperationException("DictionarySnapshotCompiler is a utility class and is not meant to be instantiated.");
+    }
+
+    /**
+     * @param args the word list to read and the snapshot file to write
+     * @throws IOException if either file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: DictionarySnapshotCompiler <word list> <snapshot>");
+        }
+        LengthIndexedWordSet words = LocalDictionaryProvider.load(new FileSystemResource(args[0]));
+        words.write(Path.of(args[1]));
+        System.out.println("Compiled " + words.size() + " words into " + args[1]);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ltb.woordle.dictionary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Size-bounded, concurrent cache of dictionary lookups.
+ * <p>
+ * Both outcomes are cached: words the dictionary knows (hits) and words it answered 404 for (misses),
+ * each with its own time-to-live. Failed lookups are not cached, so an outage does not poison the cache.
+ * Eviction is frequency- and recency-aware, and concurrent lookups of the same word share one load
+ * without a global lock.
+ */
+@Component
+public class DictionaryValidationCache {
+
+    private final Cache<String, Boolean> cache;
+
+    public DictionaryValidationCache(@Value("${dictionary.cache.max-size:50000}") long maxSize,
+                                     @Value("${dictionary.cache.hit-ttl:24h}") Duration hitTtl,
+                                     @Value("${dictionary.cache.miss-ttl:1h}") Duration missTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ValidationExpiry(hitTtl.toNanos(), missTtl.toNanos()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached validity of a word, consulting the lookup function only on a cache miss.
+     *
+     * @param word   the normalized word
+     * @param lookup the dictionary lookup to run when the word is not cached
+     * @return true if the word is valid, false otherwise
+     * @throws DictionaryServiceException if the lookup fails; the failure is not cached
+     */
+    public boolean isValidWord(@NotNull String word, @NotNull Predicate<String> lookup) {
+        return cache.get(word, lookup::test);
+    }
+
+    /**
+     * @return the cached validity of a word, or null if it is not cached
+     */
+    public Boolean getIfPresent(@NotNull String word) {
+        return cache.getIfPresent(word);
+    }
+
+    /**
+     * Records the outcome of a lookup made outside {@link #isValidWord(String, Predicate)}, such as an async one.
+     */
+    public void put(@NotNull String word, boolean valid) {
+        cache.put(word, valid);
+    }
+
+    /**
+     * @return a snapshot of the hit, miss, and eviction counters
+     */
+    @NotNull
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return the approximate number of cached words
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    // Valid words expire after hitTtl, unknown words after missTtl; reads do not extend either
+    private record ValidationExpiry(long hitTtlNanos, long missTtlNanos) implements Expiry<String, Boolean> {
+
+        @Override
+        public long expireAfterCreate(String word, Boolean valid, long currentTime) {
+            return valid ? hitTtlNanos : missTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String word, Boolean valid, long currentTime, long currentDuration) {
+            return expireAfterCreate(word, valid, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String word, Boolean valid, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
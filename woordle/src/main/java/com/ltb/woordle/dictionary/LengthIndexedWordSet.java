@@ -0,0 +1,404 @@
+package com.ltb.woordle.dictionary;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compact, immutable set of lowercase words bucketed by length (1 to 15).
+ * Letters are stored one byte each, so words may use any lowercase Latin-1 letter: a-z plus the likes of ñ, ü or ß.
+ * <p>
+ * Each length bucket stores its words back to back in a single byte array and indexes them
+ * with an open-addressing table of ints, so a full English word list costs roughly one byte
+ * per letter plus a few bytes per word, instead of one String object per entry.
+ * Lookups never allocate and are safe to share across threads once built.
+ * <p>
+ * A built set can be saved as a snapshot with {@link #write(Path)} and memory-mapped back with {@link #map(Path)},
+ * so startup skips parsing and hashing the word list and the letters live outside the heap.
+ * The snapshot is the in-memory layout as is, little-endian:
+ * <pre>
+ * int magic ("WDS1"), then for each length 1..15: int word count, int slot table capacity
+ * then for each length 1..15: the letters (count * length bytes, zero-padded to a multiple of 4), the slot table
+ * </pre>
+ * A mapped set keeps the word order and slot tables of the set it was written from,
+ * so indexes (and everything derived from them, like the daily schedule) are the same either way.
+ */
+public final class LengthIndexedWordSet {
+
+    public static final int MIN_LENGTH = 1;
+    public static final int MAX_LENGTH = 15;
+
+    private static final int EMPTY_SLOT = 0;
+
+    private static final int MAGIC = 0x31534457; // "WDS1" read little-endian
+    private static final int HEADER_BYTES = 4 + MAX_LENGTH * 8;
+
+    // Indexed by Latin-1 character: true for a lowercase letter
+    private static final boolean[] LOWERCASE_LETTERS = new boolean[0x100];
+
+    static {
+        for (char c = 0; c < LOWERCASE_LETTERS.length; c++) {
+            LOWERCASE_LETTERS[c] = Character.isLowerCase(c);
+        }
+    }
+
+    // Indexed by word length; index 0 is unused. Read with absolute gets only, so sharing them is safe
+    private final ByteBuffer[] letters;
+    private final IntBuffer[] slots;
+    private final int[] sizes;
+
+    private LengthIndexedWordSet(ByteBuffer[] letters, IntBuffer[] slots, int[] sizes) {
+        this.letters = letters;
+        this.slots = slots;
+        this.sizes = sizes;
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks whether the set contains the given word.
+     * Words with characters other than lowercase Latin-1 letters, or with an unsupported length, are never contained.
+     *
+     * @param word the lowercase word to look up
+     * @return true if the word is in the set, false otherwise
+     */
+    public boolean contains(CharSequence word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * Finds the index of a word within its length bucket, for use with {@link #wordAt(int, int)}.
+     *
+     * @param word the lowercase word to look up
+     * @return the index of the word within the bucket of its length, or -1 if it is not in the set
+     */
+    public int indexOf(CharSequence word) {
+        if (word == null) {
+            return -1;
+        }
+
+        int length = word.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH || sizes[length] == 0) {
+            return -1;
+        }
+
+        int hash = hash(word);
+        if (hash == -1) {
+            return -1;
+        }
+
+        IntBuffer table = slots[length];
+        ByteBuffer bucket = letters[length];
+        int mask = table.capacity() - 1;
+
+        // Linear probing until we find the word or an empty slot
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = table.get(slot);
+            if (entry == EMPTY_SLOT) {
+                return -1;
+            }
+            if (matches(bucket, (entry - 1) * length, word)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * @param length the word length
+     * @return the number of distinct words of that length, or 0 if the length is unsupported
+     */
+    public int size(int length) {
+        return (length < MIN_LENGTH || length > MAX_LENGTH) ? 0 : sizes[length];
+    }
+
+    /**
+     * @return the total number of distinct words across all lengths
+     */
+    public int size() {
+        int total = 0;
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            total += sizes[length];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the letter at a given position of the word stored at a given index.
+     * Useful for scanning a bucket without materializing Strings.
+     *
+     * @param length   the word length bucket
+     * @param index    the word index within the bucket, from 0 to size(length) - 1
+     * @param position the letter position within the word
+     * @return the lowercase letter
+     */
+    public char letterAt(int length, int index, int position) {
+        return (char) (letters[length].get(index * length + position) & 0xff);
+    }
+
+    /**
+     * Materializes the word stored at a given index of a length bucket.
+     *
+     * @param length the word length bucket
+     * @param index  the word index within the bucket, from 0 to size(length) - 1
+     * @return the word as a String
+     * @throws IndexOutOfBoundsException if the index is outside the bucket
+     */
+    @NotNull
+    public String wordAt(int length, int index) {
+        if (index < 0 || index >= size(length)) {
+            throw new IndexOutOfBoundsException("No word at index " + index + " for length " + length);
+        }
+        char[] chars = new char[length];
+        int offset = index * length;
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (letters[length].get(offset + i) & 0xff);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Picks a uniformly random word of the given length.
+     *
+     * @param length the desired word length
+     * @param random the source of randomness
+     * @return a random word of that length
+     * @throws IllegalArgumentException if the set has no words of that length
+     */
+    @NotNull
+    public String randomWord(int length, @NotNull Random random) {
+        int size = size(length);
+        if (size == 0) {
+            throw new IllegalArgumentException("No words of length " + length + " available");
+        }
+        return wordAt(length, random.nextInt(size));
+    }
+
+    /**
+     * Saves the set as a snapshot that {@link #map(Path)} can load without parsing.
+     *
+     * @param file where to write the snapshot; replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void write(@NotNull Path file) throws IOException {
+        int total = HEADER_BYTES;
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            total += padded(sizes[length] * length) + slots[length].capacity() * 4;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC);
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            out.putInt(sizes[length]).putInt(slots[length].capacity());
+        }
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            int bytes = sizes[length] * length;
+            for (int i = 0; i < bytes; i++) {
+                out.put(letters[length].get(i));
+            }
+            out.position(out.position() + padded(bytes) - bytes);
+            for (int slot = 0; slot < slots[length].capacity(); slot++) {
+                out.putInt(slots[length].get(slot));
+            }
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, out.array());
+    }
+
+    /**
+     * Memory-maps a snapshot written by {@link #write(Path)}. Nothing is parsed or hashed;
+     * lookups read the mapped file in place.
+     *
+     * @param file the snapshot
+     * @return the word set
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    @NotNull
+    public static LengthIndexedWordSet map(@NotNull Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private static LengthIndexedWordSet read(ByteBuffer snapshot) throws IOException {
+        ByteBuffer in = snapshot.order(ByteOrder.LITTLE_ENDIAN);
+        if (in.remaining() < HEADER_BYTES || in.getInt(0) != MAGIC) {
+            throw new IOException("Not a word set snapshot");
+        }
+
+        ByteBuffer[] letters = new ByteBuffer[MAX_LENGTH + 1];
+        IntBuffer[] slots = new IntBuffer[MAX_LENGTH + 1];
+        int[] sizes = new int[MAX_LENGTH + 1];
+        letters[0] = ByteBuffer.allocate(0);
+        slots[0] = IntBuffer.allocate(0);
+        int offset = HEADER_BYTES;
+
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            int size = in.getInt(4 + (length - 1) * 8);
+            int capacity = in.getInt(8 + (length - 1) * 8);
+            int bytes = size * length;
+            // The builder keeps every table at most half full, so anything fuller is not one of ours
+            if (size < 0 || capacity < 2 || Integer.bitCount(capacity) != 1 || size * 2L > capacity
+                    || (long) offset + padded(bytes) + capacity * 4L > in.limit()) {
+                throw new IOException("Corrupt word set snapshot for length " + length);
+            }
+            letters[length] = in.slice(offset, bytes);
+            offset += padded(bytes);
+            slots[length] = in.slice(offset, capacity * 4).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            offset += capacity * 4;
+            sizes[length] = size;
+            checkSlots(slots[length], size, length);
+        }
+
+        return new LengthIndexedWordSet(letters, slots, sizes);
+    }
+
+    // One pass at load, so a lookup can trust every entry: each points at a stored word, and each word has one slot
+    private static void checkSlots(IntBuffer table, int size, int length) throws IOException {
+        int used = 0;
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            int entry = table.get(slot);
+            if (entry < EMPTY_SLOT || entry > size) {
+                throw new IOException("Corrupt word set snapshot for length " + length);
+            }
+            if (entry != EMPTY_SLOT) {
+                used++;
+            }
+        }
+        if (used != size) {
+            throw new IOException("Corrupt word set snapshot for length " + length);
+        }
+    }
+
+    private static int padded(int bytes) {
+        return (bytes + 3) & ~3;
+    }
+
+    // FNV-1a over the letters; returns -1 if the word contains anything but lowercase Latin-1 letters
+    private static int hash(CharSequence word) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= LOWERCASE_LETTERS.length || !LOWERCASE_LETTERS[c]) {
+                return -1;
+            }
+            hash ^= c;
+            hash *= 0x01000193;
+        }
+        // Spread the high bits down since the table mask only keeps the low ones
+        return (hash ^ (hash >>> 16)) & 0x7fffffff;
+    }
+
+    private static int hash(byte[] bucket, int offset, int length) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < length; i++) {
+            hash ^= bucket[offset + i] & 0xff;
+            hash *= 0x01000193;
+        }
+        return (hash ^ (hash >>> 16)) & 0x7fffffff;
+    }
+
+    private static boolean matches(ByteBuffer bucket, int offset, CharSequence word) {
+        for (int i = 0; i < word.length(); i++) {
+            if ((bucket.get(offset + i) & 0xff) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects words and builds an immutable {@link LengthIndexedWordSet}.
+     * Duplicates are dropped at build time. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private final ByteArrayOutputStream[] buffers = new ByteArrayOutputStream[MAX_LENGTH + 1];
+
+        private Builder() {
+            for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+                buffers[length] = new ByteArrayOutputStream();
+            }
+        }
+
+        /**
+         * Adds a word to the set being built.
+         *
+         * @param word the word to add, in lowercase Latin-1 letters
+         * @return true if the word was accepted, false if its length or characters are unsupported
+         */
+        @Contract("null -> false")
+        public boolean add(String word) {
+            if (word == null || word.length() < MIN_LENGTH || word.length() > MAX_LENGTH || hash(word) == -1) {
+                return false;
+            }
+            ByteArrayOutputStream buffer = buffers[word.length()];
+            for (int i = 0; i < word.length(); i++) {
+                buffer.write(word.charAt(i));
+            }
+            return true;
+        }
+
+        @NotNull
+        public LengthIndexedWordSet build() {
+            ByteBuffer[] letters = new ByteBuffer[MAX_LENGTH + 1];
+            IntBuffer[] slots = new IntBuffer[MAX_LENGTH + 1];
+            int[] sizes = new int[MAX_LENGTH + 1];
+            letters[0] = ByteBuffer.allocate(0);
+            slots[0] = IntBuffer.allocate(0);
+
+            for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+                byte[] raw = buffers[length].toByteArray();
+                int count = raw.length / length;
+
+                // Keep the load factor at or below 0.5 so probe chains stay short
+                int capacity = Integer.highestOneBit(Math.max(2, count * 2 - 1)) << 1;
+                int[] table = new int[capacity];
+                int mask = capacity - 1;
+                byte[] unique = new byte[raw.length];
+                int size = 0;
+
+                for (int i = 0; i < count; i++) {
+                    int offset = i * length;
+                    int slot = hash(raw, offset, length) & mask;
+                    boolean duplicate = false;
+
+                    while (table[slot] != EMPTY_SLOT) {
+                        if (Arrays.equals(unique, (table[slot] - 1) * length, table[slot] * length,
+                                raw, offset, offset + length)) {
+                            duplicate = true;
+                            break;
+                        }
+                        slot = (slot + 1) & mask;
+                    }
+
+                    if (!duplicate) {
+                        System.arraycopy(raw, offset, unique, size * length, length);
+                        table[slot] = ++size;
+                    }
+                }
+
+                letters[length] = ByteBuffer.wrap(size * length == unique.length ? unique : Arrays.copyOf(unique, size * length));
+                slots[length] = IntBuffer.wrap(table);
+                sizes[length] = size;
+            }
+
+            return new LengthIndexedWordSet(letters, slots, sizes);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.utils.Alphabet;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.ltb.woordle.utils.WordValidator.*;
+
+/**
+ * Dictionary backed by a bundled word list, loaded once at startup into a {@link LengthIndexedWordSet}.
+ * Lookups are in-memory and never touch the network.
+ * <p>
+ * The build compiles the word list into a snapshot (see the compileDictionary Gradle task), which is
+ * memory-mapped instead of parsed. Without a readable snapshot, e.g. when running from an IDE,
+ * the word list is parsed as before.
+ * <p>
+ * The Spring bean holds the English list; the other constructors parse a list in any {@link Alphabet}.
+ */
+@Component
+public class LocalDictionaryProvider implements DictionaryProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalDictionaryProvider.class);
+
+    private final LengthIndexedWordSet words;
+
+    private final Alphabet alphabet;
+
+    public LocalDictionaryProvider(Resource wordList) {
+        this(wordList, null, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Parses a word list in the given language. Words with letters outside its alphabet are dropped.
+     */
+    public LocalDictionaryProvider(Resource wordList, Alphabet alphabet) {
+        this(wordList, null, alphabet);
+    }
+
+    @Autowired
+    public LocalDictionaryProvider(@Value("${dictionary.local.word-list}") Resource wordList,
+                                   @Value("${dictionary.local.snapshot:}") Resource snapshot) {
+        this(wordList, snapshot, Alphabet.ENGLISH);
+    }
+
+    private LocalDictionaryProvider(Resource wordList, Resource snapshot, Alphabet alphabet) {
+        this.alphabet = alphabet;
+        long start = System.nanoTime();
+        LengthIndexedWordSet mapped = snapshot != null && snapshot.exists() ? map(snapshot) : null;
+        if (mapped != null) {
+            this.words = mapped;
+            log.info("Mapped {} words from local dictionary snapshot {} in {} ms",
+                    words.size(), snapshot.getDescription(), (System.nanoTime() - start) / 1_000_000);
+        } else {
+            this.words = load(wordList, alphabet);
+            log.info("Loaded {} {} words from local dictionary {} in {} ms",
+                    words.size(), alphabet.getCode(), wordList.getDescription(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @Override
+    public boolean isValidWord(String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("Word passed to dictionary validation cannot be null or empty");
+        }
+        return words.contains(word);
+    }
+
+    /**
+     * Allocation-free variant of {@link #isValidWord(String)} for callers holding a CharSequence.
+     *
+     * @param word the normalized word to look up
+     * @return true if the word is in the local list, false otherwise
+     */
+    public boolean contains(CharSequence word) {
+        return words.contains(word);
+    }
+
+    @Override
+    @NotNull
+    public String getRandomWord(int length) {
+        if (length <= 0 || length > 15) {
+            throw new IllegalArgumentException("Length must be a positive integer no greater than 15.");
+        }
+        return words.randomWord(length, ThreadLocalRandom.current());
+    }
+
+    /**
+     * @return the alphabet every word in the list is spelled with
+     */
+    @NotNull
+    public Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * @return the underlying word set, shared read-only
+     */
+    @NotNull
+    public LengthIndexedWordSet getWords() {
+        return words;
+    }
+
+    /**
+     * Parses a curated list of words drawn from this dictionary, such as the daily puzzle answers.
+     * Listed words this dictionary does not contain are dropped, so every word in the result can be guessed.
+     *
+     * @param wordList the curated list, in the same format as the dictionary's own word list
+     * @return the listed words that are in this dictionary
+     * @throws DictionaryServiceException if the list cannot be read
+     */
+    @NotNull
+    public LengthIndexedWordSet subset(@NotNull Resource wordList) {
+        LengthIndexedWordSet listed = load(wordList, alphabet);
+        LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+        int dropped = 0;
+        for (int length = LengthIndexedWordSet.MIN_LENGTH; length <= LengthIndexedWordSet.MAX_LENGTH; length++) {
+            for (int i = 0; i < listed.size(length); i++) {
+                String word = listed.wordAt(length, i);
+                if (words.contains(word)) {
+                    builder.add(word);
+                } else {
+                    dropped++;
+                }
+            }
+        }
+        if (dropped > 0) {
+            log.warn("Dropped {} words of {} that are not in the local dictionary", dropped, wordList.getDescription());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses an English word list.
+     *
+     * @see #load(Resource, Alphabet)
+     */
+    @NotNull
+    static LengthIndexedWordSet load(@NotNull Resource wordList) {
+        return load(wordList, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Parses a word list: one word per line, blank lines and lines starting with # skipped,
+     * words normalized and anything not spelled in the alphabet dropped.
+     *
+     * @param wordList the word list, UTF-8
+     * @param alphabet the alphabet of the list's language
+     * @return the parsed words
+     * @throws DictionaryServiceException if the list cannot be read
+     */
+    @NotNull
+    static LengthIndexedWordSet load(@NotNull Resource wordList, @NotNull Alphabet alphabet) {
+        LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(wordList.getInputStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Skip blank lines and comments
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String word = normalizeWord(line, alphabet);
+                if (isValidAlphabeticWord(word, alphabet)) {
+                    builder.add(word);
+                }
+            }
+
+        } catch (IOException e) {
+            throw new DictionaryServiceException("Failed to load local word list " + wordList.getDescription(), e);
+        }
+
+        return builder.build();
+    }
+
+    // Returns null, after logging why, if the snapshot cannot be used
+    private static LengthIndexedWordSet map(Resource snapshot) {
+        try {
+            if (snapshot.isFile()) {
+                return LengthIndexedWordSet.map(snapshot.getFile().toPath());
+            }
+            // Inside a jar: a resource cannot be mapped in place, so copy it out once
+            Path extracted = Files.createTempFile("woordle-dictionary", ".wds");
+            extracted.toFile().deleteOnExit();
+            try (InputStream in = snapshot.getInputStream()) {
+                Files.copy(in, extracted, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return LengthIndexedWordSet.map(extracted);
+        } catch (IOException e) {
+            log.warn("Could not map local dictionary snapshot {}, parsing the word list instead: {}",
+                    snapshot.getDescription(), e.getMessage());
+            return null;
+        }
+    }
+}
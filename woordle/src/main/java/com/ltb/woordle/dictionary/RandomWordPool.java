@@ -0,0 +1,208 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.exceptions.DictionaryUnavailableException;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.ltb.woordle.utils.WordValidator.*;
+
+/**
+ * Per-length pool of pre-fetched random answers, so starting a game never waits on the dictionary API.
+ * <p>
+ * A background task tops each pool back up to its capacity whenever it drops below the low-water mark.
+ * When a pool runs dry, answers come from the local word list instead.
+ * <p>
+ * Unless guesses may also be validated remotely (dictionary.remote.fallback-enabled), fetched words missing from
+ * the local word list are dropped, since nobody could type them as a guess and the game could not be won.
+ */
+@Component
+public class RandomWordPool {
+
+    private static final Logger log = LoggerFactory.getLogger(RandomWordPool.class);
+
+    private static final int MIN_LENGTH = LengthIndexedWordSet.MIN_LENGTH;
+    private static final int MAX_LENGTH = LengthIndexedWordSet.MAX_LENGTH;
+
+    private final WordsApiDictionaryProvider remoteProvider;
+
+    private final LocalDictionaryProvider localProvider;
+
+    // Indexed by word length; index 0 is unused
+    @SuppressWarnings("unchecked")
+    private final Queue<String>[] pools = new Queue[MAX_LENGTH + 1];
+    private final AtomicInteger[] sizes = new AtomicInteger[MAX_LENGTH + 1];
+
+    private final AtomicLong emptyCount = new AtomicLong();
+    private final AtomicLong takeCount = new AtomicLong();
+    private final AtomicLong refillFailures = new AtomicLong();
+    private final AtomicLong droppedWords = new AtomicLong();
+    private final LongAdder refillAttempts = new LongAdder();
+    private final LongAdder refilledWords = new LongAdder();
+    private final LongAdder refillNanos = new LongAdder();
+    private volatile long lastRefillNanos;
+
+    @Value("${dictionary.pool.enabled:true}")
+    private boolean enabled;
+
+    @Value("${dictionary.pool.capacity:16}")
+    private int capacity;
+
+    @Value("${dictionary.pool.low-water-mark:4}")
+    private int lowWaterMark;
+
+    @Value("${dictionary.remote.fallback-enabled:false}")
+    private boolean remoteFallbackEnabled;
+
+    public RandomWordPool(WordsApiDictionaryProvider remoteProvider, LocalDictionaryProvider localProvider) {
+        this.remoteProvider = remoteProvider;
+        this.localProvider = localProvider;
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            pools[length] = new ConcurrentLinkedQueue<>();
+            sizes[length] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Takes a pre-fetched answer of the given length, or a random word from the local list if the pool is empty.
+     *
+     * @param length length of the desired word; must be between 1 and 15
+     * @return a random, normalized, alphabetic word of the given length
+     * @throws IllegalArgumentException if length is invalid or no word is available
+     */
+    @NotNull
+    public String take(int length) {
+        String word = poll(length);
+        return word != null ? word : localProvider.getRandomWord(length);
+    }
+
+    /**
+     * Takes a pre-fetched answer of the given length without falling back.
+     *
+     * @param length length of the desired word; must be between 1 and 15
+     * @return a random, normalized, alphabetic word of the given length, or null if the pool is empty
+     * @throws IllegalArgumentException if length is invalid
+     */
+    public String poll(int length) {
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Length must be a positive integer no greater than 15.");
+        }
+        takeCount.incrementAndGet();
+        String word = pools[length].poll();
+
+        if (word != null) {
+            sizes[length].decrementAndGet();
+            return word;
+        }
+
+        emptyCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Tops up every pool that has fallen below the low-water mark.
+     * A failing fetch stops the refill of that length until the next run,
+     * and a refused one (circuit breaker open or bulkhead full) stops the whole run.
+     * Each length makes at most capacity fetches per run, so a remote list that rarely matches
+     * the local one cannot drain the API quota.
+     */
+    @Scheduled(initialDelayString = "${dictionary.pool.initial-delay-ms:0}",
+            fixedDelayString = "${dictionary.pool.refill-interval-ms:5000}")
+    public void refill() {
+        if (!enabled) {
+            return;
+        }
+
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            if (sizes[length].get() >= lowWaterMark) {
+                continue;
+            }
+
+            for (int fetched = 0; fetched < capacity && sizes[length].get() < capacity; fetched++) {
+                long start = System.nanoTime();
+                try {
+                    String word = normalizeWord(remoteProvider.getRandomWord(length));
+                    if (!remoteFallbackEnabled && !localProvider.contains(word)) {
+                        droppedWords.incrementAndGet();
+                        continue;
+                    }
+                    pools[length].offer(word);
+                    sizes[length].incrementAndGet();
+                    refilledWords.increment();
+                } catch (DictionaryUnavailableException e) {
+                    log.debug("Skipping random word pool refill: {}", e.getMessage());
+                    return;
+                } catch (DictionaryServiceException | IllegalArgumentException e) {
+                    refillFailures.incrementAndGet();
+                    log.warn("Could not refill random word pool for length {}: {}", length, e.getMessage());
+                    break;
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    lastRefillNanos = elapsed;
+                    refillNanos.add(elapsed);
+                    refillAttempts.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of pooled answers of the given length
+     */
+    public int size(int length) {
+        return (length < MIN_LENGTH || length > MAX_LENGTH) ? 0 : sizes[length].get();
+    }
+
+    /**
+     * @return how many takes found the pool empty and fell back to the local list
+     */
+    public long getEmptyCount() {
+        return emptyCount.get();
+    }
+
+    /**
+     * @return how many answers have been taken from the pool, including fallbacks
+     */
+    public long getTakeCount() {
+        return takeCount.get();
+    }
+
+    /**
+     * @return how many remote fetches failed while refilling
+     */
+    public long getRefillFailures() {
+        return refillFailures.get();
+    }
+
+    /**
+     * @return how many fetched words were dropped because they are not valid guesses
+     */
+    public long getDroppedWords() {
+        return droppedWords.get();
+    }
+
+    /**
+     * @return the latency of the most recent remote fetch, in nanoseconds
+     */
+    public long getLastRefillNanos() {
+        return lastRefillNanos;
+    }
+
+    /**
+     * @return the mean latency of remote fetches, refused and dropped ones included, in nanoseconds
+     */
+    public double getMeanRefillNanos() {
+        long attempts = refillAttempts.sum();
+        return attempts == 0 ? 0 : (double) refillNanos.sum() / attempts;
+    }
+}
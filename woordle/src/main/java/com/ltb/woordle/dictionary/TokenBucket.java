@@ -0,0 +1,77 @@
+package com.ltb.woordle.dictionary;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket, kept as a single "theoretical arrival time" (the generic cell rate algorithm).
+ * <p>
+ * Each permit pushes the arrival time one emission interval (1 / rate) into the future. A permit is free while
+ * that time stays within burst intervals of now, so a full bucket allows a burst and then the steady rate.
+ * Taking a permit is one compare-and-set, with no lock and no background refill. A caller willing to wait
+ * reserves a later slot instead of retrying, so waiters are served in the order they reserved.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final AtomicLong arrival;
+
+    /**
+     * @param permitsPerSecond the steady rate
+     * @param burst            how many permits a full bucket holds
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive.");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.clock = clock;
+        // Start full
+        this.arrival = new AtomicLong(clock.getAsLong() - burstNanos);
+    }
+
+    /**
+     * Takes a permit if one is free now.
+     *
+     * @return true if a permit was taken
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    /**
+     * Takes a permit, reserving a future one if none is free now but one will be within maxWaitNanos.
+     * The caller must wait the returned time before using it.
+     *
+     * @param maxWaitNanos the longest the caller is willing to wait
+     * @return how long to wait before using the permit, 0 to use it now, or -1 if none could be reserved
+     */
+    public long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = clock.getAsLong();
+            long current = arrival.get();
+            long next = Math.max(current, now - burstNanos) + intervalNanos;
+            long wait = next - now;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+
+    /**
+     * Gives back a permit taken but not used, e.g. because another limit refused the call.
+     */
+    public void refund() {
+        arrival.addAndGet(-intervalNanos);
+    }
+}
@@ -0,0 +1,158 @@
+package com.ltb.woordle.dictionary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.models.Word;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.*;
+
+import java.io.IOException;
+
+import static com.ltb.woordle.utils.WordValidator.*;
+
+/**
+ * Dictionary backed by the remote WordsAPI on RapidAPI.
+ * Every call is an HTTP round trip and counts against the API quota,
+ * and goes through the {@link DictionaryApiGuard} circuit breaker and bulkhead.
+ */
+@Component
+public class WordsApiDictionaryProvider implements DictionaryProvider {
+
+    // Random words with spaces or digits are retried, but never more than this many calls per word
+    private static final int MAX_RANDOM_WORD_ATTEMPTS = 5;
+
+    private final RestTemplate restTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final DictionaryApiGuard guard;
+
+    public WordsApiDictionaryProvider(RestTemplate restTemplate, ObjectMapper objectMapper, DictionaryApiGuard guard) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.guard = guard;
+    }
+
+    @Value("${dictionary.api.key}")
+    private String apiKey;
+
+    @Value("${dictionary.base-url}")
+    private String baseUrl;
+
+    @Value("${dictionary.host}")
+    private String hostHeader;
+
+    @Contract(" -> new")
+    private @NotNull HttpEntity<Void> createRequestEntity() {
+        // RapidAPI requires these headers for authentication
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-rapidapi-host", hostHeader);
+        headers.set("x-rapidapi-key", apiKey);
+        return new HttpEntity<>(headers);
+    }
+
+    /**
+     * Fetches a random word of the specified length from the dictionary API,
+     * retrying until the API returns a purely alphabetic word.
+     * Every attempt is a separate guarded call, so each one is throttled and counted against the quota,
+     * and at most {@value #MAX_RANDOM_WORD_ATTEMPTS} are made.
+     *
+     * @throws DictionaryServiceException if no alphabetic word came back within the attempts
+     */
+    @Override
+    @NotNull
+    public String getRandomWord(int length) {
+        if (length <= 0 || length > 15) {
+            throw new IllegalArgumentException("Length must be a positive integer no greater than 15.");
+        }
+        for (int attempt = 0; attempt < MAX_RANDOM_WORD_ATTEMPTS; attempt++) {
+            String word = guard.execute(() -> fetchRandomWord(length));
+            if (isValidAlphabeticWord(word)) {
+                return word;
+            }
+        }
+        throw new DictionaryServiceException("No alphabetic word of length " + length + " from dictionary API after "
+                + MAX_RANDOM_WORD_ATTEMPTS + " attempts");
+    }
+
+    // One HTTP call; the word may still contain spaces, hyphens or digits
+    @NotNull
+    private String fetchRandomWord(int length) {
+        try {
+
+            ResponseEntity<String> response = restTemplate.exchange(
+                    baseUrl + "/words/?letters=" + length + "&random=true",
+                    HttpMethod.GET, createRequestEntity(), String.class);
+
+            if (!response.hasBody() || response.getStatusCode().is4xxClientError()) {
+                throw new IllegalArgumentException("No words of length " + length + " available");
+            }
+
+            Word wordObj = objectMapper.readValue(response.getBody(), Word.class);
+
+            if (wordObj == null) {
+                throw new DictionaryServiceException("Received invalid word from dictionary API");
+            }
+
+            wordObj.populateCharacters();
+            return normalizeWord(wordObj.getWord());
+
+        } catch (RestClientException | IOException e) {
+            throw new DictionaryServiceException("Failed to fetch or parse random word from dictionary API", e);
+        }
+    }
+
+    /**
+     * Searches the dictionary API for the word. A 404 means the word does not exist.
+     */
+    @Override
+    @Contract("null -> fail")
+    public boolean isValidWord(String word) {
+
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("Word passed to dictionary validation cannot be null or empty");
+        }
+        return guard.execute(() -> lookupWord(word));
+    }
+
+    private boolean lookupWord(String word) {
+        try {
+            HttpEntity<Void> requestEntity = createRequestEntity();
+            ResponseEntity<String> response = restTemplate.exchange(
+                    baseUrl + "/" + word,
+                    HttpMethod.GET, requestEntity, String.class);
+
+            return response.getStatusCode().is2xxSuccessful();
+
+        } catch (HttpClientErrorException.NotFound e) {
+            // 404 = word doesn't exist - this is expected, not an error
+            return false;
+        }
+
+        // Failure states
+        catch (HttpClientErrorException.Unauthorized e) {
+            throw new DictionaryServiceException("Dictionary API authentication failed", e);
+
+        } catch (HttpClientErrorException e) {
+            throw new DictionaryServiceException("Dictionary API client error: " + e.getStatusCode(), e);
+
+        } catch (HttpServerErrorException e) {
+            throw new DictionaryServiceException("Dictionary API server error: " + e.getStatusCode(), e);
+
+        } catch (ResourceAccessException e) {
+            throw new DictionaryServiceException("Cannot reach dictionary API", e);
+
+        } catch (RestClientException e) {
+            throw new DictionaryServiceException("Failed to validate word", e);
+        }
+
+    }
+
+}
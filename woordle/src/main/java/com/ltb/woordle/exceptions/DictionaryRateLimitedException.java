@@ -0,0 +1,13 @@
+package com.ltb.woordle.exceptions;
+
+/**
+ * Thrown when a dictionary API call is refused by a rate limit or the monthly quota.
+ * Unlike an API outage, this is not a reason to validate guesses more leniently:
+ * guesses fall back to the local list and cached answers only.
+ */
+public class DictionaryRateLimitedException extends DictionaryUnavailableException {
+
+    public DictionaryRateLimitedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ltb.woordle.exceptions;
+
+/**
+ * Thrown when a dictionary API call is refused up front, because the circuit breaker is open
+ * or too many calls are already in flight. Nothing was sent to the API.
+ * Refusals by a rate limit or the monthly quota are the more specific {@link DictionaryRateLimitedException}.
+ */
+public class DictionaryUnavailableException extends DictionaryServiceException {
+
+    public DictionaryUnavailableException(String message) {
+        super(message);
+    }
+
+    public DictionaryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,150 @@
+package com.ltb.woordle.leaderboard;
+
+import com.ltb.woordle.models.LeaderboardEntry;
+import com.ltb.woordle.repositories.UserRepository;
+import com.ltb.woordle.repositories.UserScore;
+import jakarta.annotation.PostConstruct;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory leaderboard over users' points.
+ * <p>
+ * Loaded once from the database at startup, then updated incrementally as games finish, so no page view
+ * ever sorts the users table. Backed by a {@link RankTree}: a user's exact rank costs O(log n), and top-N or
+ * a window around a rank costs O(log n) to find its first entry plus O(1) amortized per entry returned. Any number of readers can query concurrently;
+ * updates take a short exclusive lock.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private final UserRepository userRepository;
+
+    private final RankTree tree = new RankTree();
+
+    private final Map<String, Integer> points = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LeaderboardService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    public void load() {
+        List<UserScore> scores = userRepository.findAllProjectedBy();
+        lock.writeLock().lock();
+        try {
+            for (UserScore score : scores) {
+                putPoints(score.getUsername(), score.getPoints());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded {} users into the leaderboard", scores.size());
+    }
+
+    /**
+     * Adds points to a user, adding the user to the leaderboard if needed.
+     */
+    public void addPoints(@NotNull String username, int delta) {
+        lock.writeLock().lock();
+        try {
+            putPoints(username, points.getOrDefault(username, 0) + delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeUser(@NotNull String username) {
+        lock.writeLock().lock();
+        try {
+            Integer current = points.remove(username);
+            if (current != null) {
+                tree.remove(username, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the best {@code limit} users, best first
+     */
+    @NotNull
+    public List<LeaderboardEntry> getTop(int limit) {
+        return getRange(0, limit);
+    }
+
+    /**
+     * @return the user's 1-based rank, or -1 if the user is not on the leaderboard
+     */
+    public int getRank(@NotNull String username) {
+        lock.readLock().lock();
+        try {
+            Integer current = points.get(username);
+            return current == null ? -1 : tree.rank(username, current) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param rank   the 1-based rank to center on
+     * @param radius how many entries to include on each side
+     * @return the entries from rank - radius to rank + radius that exist
+     */
+    @NotNull
+    public List<LeaderboardEntry> getAround(int rank, int radius) {
+        int from = Math.max(0, rank - 1 - radius);
+        return getRange(from, rank - 1 + radius + 1 - from);
+    }
+
+    /**
+     * @return the number of users on the leaderboard
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @NotNull
+    private List<LeaderboardEntry> getRange(int from, int count) {
+        lock.readLock().lock();
+        try {
+            int to = Math.min(tree.size(), from + Math.max(0, count));
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.max(0, to - from));
+            tree.forEachFrom(from, to - from, node -> entries.add(LeaderboardEntry.builder()
+                    .rank(from + entries.size() + 1)
+                    .username(node.username)
+                    .points(node.points)
+                    .build()));
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void putPoints(String username, int newPoints) {
+        Integer current = points.put(username, newPoints);
+        if (current != null) {
+            tree.remove(username, current);
+        }
+        tree.insert(username, newPoints);
+    }
+}
@@ -0,0 +1,160 @@
+package com.ltb.woordle.leaderboard;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Order-statistic treap of (username, points) entries, ordered by points descending, then username ascending.
+ * <p>
+ * Every node tracks the size of its subtree, so inserting, removing, finding an entry's rank and finding the
+ * entry at a given rank all take O(log n) expected time; entries after it are walked in O(1) amortized each.
+ * Not thread-safe; callers guard it.
+ */
+final class RankTree {
+
+    static final class Node {
+        final String username;
+        final int points;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(String username, int points, int priority) {
+            this.username = username;
+            this.points = points;
+            this.priority = priority;
+        }
+    }
+
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(@NotNull String username, int points) {
+        Node node = new Node(username, points, ThreadLocalRandom.current().nextInt());
+        Node[] parts = split(root, username, points, false);
+        root = merge(merge(parts[0], node), parts[1]);
+    }
+
+    /**
+     * Removes an entry; the points must match the ones it was inserted with.
+     */
+    void remove(@NotNull String username, int points) {
+        Node[] lowerAndRest = split(root, username, points, false);
+        Node[] matchAndUpper = split(lowerAndRest[1], username, points, true);
+        root = merge(lowerAndRest[0], matchAndUpper[1]);
+    }
+
+    /**
+     * @return the 0-based rank of an entry, i.e. the number of entries ordered before it
+     */
+    int rank(@NotNull String username, int points) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int comparison = compare(username, points, node);
+            if (comparison <= 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Visits up to {@code count} entries in order, starting at a 0-based rank.
+     * Finds the first entry once and walks successors from there, so a page costs O(log n + count).
+     */
+    void forEachFrom(int from, int count, @NotNull Consumer<Node> action) {
+        // Every entry still to visit is on this stack or in the right subtree of an entry on it
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        Node node = root;
+        int rank = from;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (rank < leftSize) {
+                pending.push(node);
+                node = node.left;
+            } else if (rank == leftSize) {
+                pending.push(node);
+                break;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        for (int visited = 0; visited < count && !pending.isEmpty(); visited++) {
+            Node next = pending.pop();
+            action.accept(next);
+            for (Node child = next.right; child != null; child = child.left) {
+                pending.push(child);
+            }
+        }
+    }
+
+    // Negative if (username, points) orders before the node
+    private static int compare(String username, int points, Node node) {
+        if (points != node.points) {
+            return points > node.points ? -1 : 1;
+        }
+        return username.compareTo(node.username);
+    }
+
+    /**
+     * Splits a subtree into entries ordered before the key and the rest.
+     * With {@code inclusive}, the key itself goes to the first part.
+     */
+    private static Node[] split(Node node, String username, int points, boolean inclusive) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        int comparison = compare(username, points, node);
+        boolean nodeGoesLeft = inclusive ? comparison >= 0 : comparison > 0;
+        if (nodeGoesLeft) {
+            Node[] parts = split(node.right, username, points, inclusive);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        } else {
+            Node[] parts = split(node.left, username, points, inclusive);
+            node.left = parts[1];
+            update(node);
+            return new Node[]{parts[0], node};
+        }
+    }
+
+    // Joins two subtrees where every entry of the first orders before every entry of the second
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            update(first);
+            return first;
+        } else {
+            second.left = merge(first, second.left);
+            update(second);
+            return second;
+        }
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,145 @@
+package com.ltb.woordle.matches;
+
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.models.MatchBoard;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One head-to-head match: players racing on the same answer, each in their own {@link ActiveGame},
+ * and everyone watching its stream.
+ * <p>
+ * The version grows with every guess. The board is serialized at most once per version and the same event
+ * is shared by every subscriber.
+ */
+final class Match {
+
+    private final String id;
+    private final String answer;
+    private final int maxAttempts;
+    private final int maxPlayers;
+
+    // Guarded by this, in joining order
+    private final Map<String, ActiveGame> players = new LinkedHashMap<>();
+    private String winner;
+
+    final Set<MatchSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    final AtomicLong version = new AtomicLong();
+    final AtomicReference<MatchEvent> lastEvent = new AtomicReference<>();
+    // Set while a fan-out of this match is waiting to run, so a burst of guesses queues only one
+    final AtomicBoolean fanOutQueued = new AtomicBoolean();
+
+    Match(@NotNull String id, @NotNull String answer, int maxAttempts, int maxPlayers) {
+        this.id = id;
+        this.answer = answer;
+        this.maxAttempts = maxAttempts;
+        this.maxPlayers = maxPlayers;
+    }
+
+    @NotNull
+    String getId() {
+        return id;
+    }
+
+    /**
+     * Adds a player with a fresh game on the match's answer. Joining again returns the same game.
+     *
+     * @throws IllegalStateException if the match is already won, over or full
+     */
+    @NotNull
+    synchronized ActiveGame join(@NotNull String username) {
+        ActiveGame game = players.get(username);
+        if (game != null) {
+            return game;
+        }
+        if (winner != null) {
+            throw new IllegalStateException("Match is already won.");
+        }
+        if (!players.isEmpty() && players.values().stream().allMatch(ActiveGame::isFinished)) {
+            throw new IllegalStateException("Match is already over.");
+        }
+        if (players.size() >= maxPlayers) {
+            throw new IllegalStateException("Match is full.");
+        }
+        game = new ActiveGame(answer, maxAttempts);
+        players.put(username, game);
+        return game;
+    }
+
+    /**
+     * @return the player's game, or null if they have not joined
+     */
+    synchronized ActiveGame getGame(@NotNull String username) {
+        return players.get(username);
+    }
+
+    /**
+     * Makes the player the winner, unless someone solved it first.
+     */
+    synchronized void solved(@NotNull String username) {
+        if (winner == null) {
+            winner = username;
+        }
+    }
+
+    /**
+     * @param version the version this board is labelled with
+     * @return every player's rows as of now
+     */
+    @NotNull
+    MatchBoard board(long version) {
+        String currentWinner;
+        List<Map.Entry<String, ActiveGame>> entries;
+        synchronized (this) {
+            currentWinner = winner;
+            entries = new ArrayList<>(players.entrySet());
+        }
+
+        int length = answer.length();
+        boolean finished = !entries.isEmpty();
+        List<MatchBoard.PlayerBoard> boards = new ArrayList<>(entries.size());
+        for (Map.Entry<String, ActiveGame> entry : entries) {
+            ActiveGame game = entry.getValue();
+            List<String> rows;
+            GuessResult.Status status;
+            synchronized (game) {
+                rows = new ArrayList<>(game.getAttempts());
+                for (int attempt = 0; attempt < game.getAttempts(); attempt++) {
+                    rows.add(PackedFeedback.toString(game.getFeedback(attempt), length));
+                }
+                status = game.isSolved() ? GuessResult.Status.WON
+                        : game.isFinished() ? GuessResult.Status.LOST : GuessResult.Status.IN_PROGRESS;
+            }
+            finished &= status != GuessResult.Status.IN_PROGRESS;
+            boards.add(new MatchBoard.PlayerBoard(entry.getKey(), rows, status));
+        }
+
+        return MatchBoard.builder()
+                .id(id)
+                .version(version)
+                .length(length)
+                .maxAttempts(maxAttempts)
+                .winner(currentWinner)
+                .finished(finished)
+                .answer(finished ? answer : null)
+                .players(boards)
+                .build();
+    }
+
+    /**
+     * A serialized board, shared by every subscriber. The last event of a finished match ends the streams.
+     */
+    record MatchEvent(long version, String data, boolean last) {
+    }
+}
@@ -0,0 +1,342 @@
+package com.ltb.woordle.matches;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.models.MatchBoard;
+import com.ltb.woordle.services.DictionaryService;
+import com.ltb.woordle.services.GameService;
+import jakarta.annotation.PreDestroy;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Head-to-head matches: players race on the same answer while players and spectators watch every board live
+ * over server-sent events.
+ * <p>
+ * An open stream holds a connection but no thread. A guess never writes to a stream itself: it bumps the
+ * match's version and queues one fan-out for the match, however many guesses arrive before it runs.
+ * The fan-out serializes the board once and hands the shared event to each subscriber. A small pool writes
+ * to the subscribers, and at most one thread works on a subscriber at a time. If a slow client is still
+ * receiving an older board, it gets only the newest one once it catches up, so the work per subscriber
+ * stays bounded however fast the guesses come. Every board is the complete state, so skipping one loses nothing.
+ * <p>
+ * Writes are blocking servlet writes. A client that stops reading holds a fan-out thread only until its socket
+ * buffer drains or the container's write timeout (server.tomcat.connection-timeout) fails the write; the
+ * subscriber is then dropped. So as many stalled clients as there are fan-out threads can delay other streams
+ * by at most that timeout, never indefinitely.
+ */
+@Service
+public class MatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchService.class);
+
+    private final GameService gameService;
+
+    private final DictionaryService dictionaryService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Executor fanOut;
+
+    private final Cache<String, Match> matches;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder sentEvents = new LongAdder();
+    private final LongAdder coalescedEvents = new LongAdder();
+    private final AtomicLong failedSends = new AtomicLong();
+
+    @Value("${game.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${game.matches.max-players:8}")
+    private int maxPlayers;
+
+    @Value("${game.matches.stream-timeout:30m}")
+    private Duration streamTimeout;
+
+    @Autowired
+    public MatchService(GameService gameService, DictionaryService dictionaryService, ObjectMapper objectMapper,
+                        @Value("${game.matches.max-matches:100000}") long maxMatches,
+                        @Value("${game.matches.idle-timeout:30m}") Duration idleTimeout,
+                        @Value("${game.matches.fanout-threads:0}") int fanOutThreads) {
+        this(gameService, dictionaryService, objectMapper, maxMatches, idleTimeout, fanOutPool(fanOutThreads));
+    }
+
+    MatchService(GameService gameService, DictionaryService dictionaryService, ObjectMapper objectMapper,
+                 long maxMatches, Duration idleTimeout, Executor fanOut) {
+        this.gameService = gameService;
+        this.dictionaryService = dictionaryService;
+        this.objectMapper = objectMapper;
+        this.fanOut = fanOut;
+        this.matches = Caffeine.newBuilder()
+                .maximumSize(maxMatches)
+                .expireAfterAccess(idleTimeout)
+                .removalListener((String id, Match match, RemovalCause cause) -> {
+                    if (match != null) {
+                        match.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+                    }
+                })
+                .build();
+    }
+
+    private static ExecutorService fanOutPool(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "match-fanout-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matches.invalidateAll();
+        if (fanOut instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Opens a new match with the creator as its first player.
+     *
+     * @param username the creator
+     * @param length   the word length, from 1 to 15
+     * @return the match's id, for others to join or watch
+     */
+    @NotNull
+    public String createMatch(@NotNull String username, int length) {
+        String id = UUID.randomUUID().toString();
+        Match match = new Match(id, dictionaryService.getRandomWord(length), maxAttempts, maxPlayers);
+        match.join(username);
+        matches.put(id, match);
+        return id;
+    }
+
+    /**
+     * Joins a match as a player. Joining a match already joined does nothing.
+     *
+     * @throws IllegalArgumentException if there is no such match
+     * @throws IllegalStateException    if the match is already won, over or full
+     */
+    public void join(@NotNull String id, @NotNull String username) {
+        Match match = require(id);
+        match.join(username);
+        publish(match);
+    }
+
+    /**
+     * Evaluates a player's guess and broadcasts the new board. Finished games are recorded like free games.
+     *
+     * @return the player's own result, with the letters and, once their game is over, the answer
+     * @throws IllegalArgumentException if there is no such match or the guess is invalid
+     * @throws IllegalStateException    if the user has not joined or their game is finished
+     */
+    @NotNull
+    public GuessResult guess(@NotNull String id, @NotNull String username, @NotNull String guess) {
+        Match match = require(id);
+        ActiveGame game = match.getGame(username);
+        if (game == null) {
+            throw new IllegalStateException("You have not joined this match.");
+        }
+        // Each player's game ends exactly once, so its result is recorded exactly once
+        GuessResult result = gameService.guess(username, game, guess, () -> true);
+        if (result.getStatus() == GuessResult.Status.WON) {
+            match.solved(username);
+        }
+        publish(match);
+        return result;
+    }
+
+    /**
+     * @return the match's current board
+     * @throws IllegalArgumentException if there is no such match
+     */
+    @NotNull
+    public MatchBoard getBoard(@NotNull String id) {
+        Match match = require(id);
+        return match.board(match.version.get());
+    }
+
+    /**
+     * Opens a stream of the match's boards, starting with the current one. It ends once the match is finished.
+     *
+     * @throws IllegalArgumentException if there is no such match
+     */
+    @NotNull
+    public SseEmitter subscribe(@NotNull String id) {
+        return subscribe(require(id), new SseEmitter(streamTimeout.toMillis()));
+    }
+
+    @NotNull
+    SseEmitter subscribe(@NotNull Match match, @NotNull SseEmitter emitter) {
+        MatchSubscriber subscriber = new MatchSubscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(match, subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(match, subscriber));
+        match.subscribers.add(subscriber);
+        subscriberCount.incrementAndGet();
+        deliver(match, subscriber, event(match));
+        return emitter;
+    }
+
+    Match getMatch(@NotNull String id) {
+        return matches.getIfPresent(id);
+    }
+
+    /**
+     * @return the approximate number of open matches
+     */
+    public long getMatchCount() {
+        return matches.estimatedSize();
+    }
+
+    /**
+     * @return the number of open match streams
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * @return how many boards have been written to streams
+     */
+    public long getSentEvents() {
+        return sentEvents.sum();
+    }
+
+    /**
+     * @return how many boards were skipped because a newer one replaced them before a slow stream caught up
+     */
+    public long getCoalescedEvents() {
+        return coalescedEvents.sum();
+    }
+
+    /**
+     * @return how many writes failed, usually because the client went away
+     */
+    public long getFailedSends() {
+        return failedSends.get();
+    }
+
+    private Match require(String id) {
+        Match match = matches.getIfPresent(id);
+        if (match == null) {
+            throw new IllegalArgumentException("No such match.");
+        }
+        return match;
+    }
+
+    // Cheap and non-blocking, since it runs on the guessing thread
+    private void publish(Match match) {
+        match.version.incrementAndGet();
+        if (match.fanOutQueued.compareAndSet(false, true)) {
+            execute(() -> fanOut(match));
+        }
+    }
+
+    private void fanOut(Match match) {
+        // Cleared first, so a guess made from here on queues another fan-out
+        match.fanOutQueued.set(false);
+        Match.MatchEvent event = event(match);
+        for (MatchSubscriber subscriber : match.subscribers) {
+            deliver(match, subscriber, event);
+        }
+    }
+
+    // The match's newest event, serializing the board only if no one has for this version yet
+    private Match.MatchEvent event(Match match) {
+        long version = match.version.get();
+        Match.MatchEvent cached = match.lastEvent.get();
+        if (cached != null && cached.version() >= version) {
+            return cached;
+        }
+
+        MatchBoard board = match.board(version);
+        Match.MatchEvent event;
+        try {
+            event = new Match.MatchEvent(version, objectMapper.writeValueAsString(board), board.isFinished());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return match.lastEvent.accumulateAndGet(event, (current, built) ->
+                current == null || built.version() > current.version() ? built : current);
+    }
+
+    private void deliver(Match match, MatchSubscriber subscriber, Match.MatchEvent event) {
+        subscriber.offer(event);
+        if (subscriber.sending.compareAndSet(false, true)) {
+            execute(() -> drain(match, subscriber));
+        }
+    }
+
+    // Writes the subscriber's newest event until nothing newer arrives; only the holder of the sending flag runs it
+    private void drain(Match match, MatchSubscriber subscriber) {
+        do {
+            Match.MatchEvent event = subscriber.unsent();
+            if (event != null) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.version()))
+                            .name("board")
+                            .data(event.data(), MediaType.APPLICATION_JSON));
+                    if (subscriber.sentVersion >= 0) {
+                        coalescedEvents.add(event.version() - subscriber.sentVersion - 1);
+                    }
+                    subscriber.sentVersion = event.version();
+                    sentEvents.increment();
+                    if (event.last()) {
+                        subscriber.emitter.complete();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away, the write timed out or the stream already ended.
+                    // The sending flag stays set, so nothing is ever written to this stream again.
+                    failedSends.incrementAndGet();
+                    log.debug("Dropping match stream: {}", e.getMessage());
+                    unsubscribe(match, subscriber);
+                    subscriber.emitter.completeWithError(e);
+                    return;
+                }
+            }
+            subscriber.sending.set(false);
+        } while (subscriber.unsent() != null && subscriber.sending.compareAndSet(false, true));
+    }
+
+    private void unsubscribe(Match match, MatchSubscriber subscriber) {
+        if (match.subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            fanOut.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; open streams are being completed anyway
+            log.debug("Match fan-out rejected: {}", e.getMessage());
+        }
+    }
+}
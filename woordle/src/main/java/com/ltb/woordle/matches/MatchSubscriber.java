@@ -0,0 +1,43 @@
+package com.ltb.woordle.matches;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One open match stream. Only the newest event is kept; whoever holds the sending flag writes it.
+ */
+final class MatchSubscriber {
+
+    final SseEmitter emitter;
+
+    final AtomicReference<Match.MatchEvent> latest = new AtomicReference<>();
+
+    // Held by the one fan-out thread writing to this stream
+    final AtomicBoolean sending = new AtomicBoolean();
+
+    // Only written while holding the sending flag
+    volatile long sentVersion = -1;
+
+    MatchSubscriber(@NotNull SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    /**
+     * Replaces the pending event, unless the given one is older.
+     */
+    void offer(@NotNull Match.MatchEvent event) {
+        latest.accumulateAndGet(event, (current, offered) ->
+                current == null || offered.version() > current.version() ? offered : current);
+    }
+
+    /**
+     * @return the pending event if it has not been sent yet, otherwise null
+     */
+    Match.MatchEvent unsent() {
+        Match.MatchEvent event = latest.get();
+        return event != null && event.version() > sentVersion ? event : null;
+    }
+}
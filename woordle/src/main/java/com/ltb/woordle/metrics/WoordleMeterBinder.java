@@ -0,0 +1,231 @@
+package com.ltb.woordle.metrics;
+
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.dictionary.AsyncDictionaryClient;
+import com.ltb.woordle.dictionary.DictionaryApiGuard;
+import com.ltb.woordle.dictionary.DictionaryApiQuota;
+import com.ltb.woordle.dictionary.DictionaryApiThrottle;
+import com.ltb.woordle.dictionary.DictionaryValidationCache;
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import com.ltb.woordle.dictionary.RandomWordPool;
+import com.ltb.woordle.leaderboard.LeaderboardService;
+import com.ltb.woordle.matches.MatchService;
+import com.ltb.woordle.services.ActiveGameStore;
+import com.ltb.woordle.services.GameHistoryRecorder;
+import com.ltb.woordle.services.HintService;
+import com.ltb.woordle.services.UserStatsRecorder;
+import com.ltb.woordle.services.WoordleUserDetailsService;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gauges and function counters over the in-memory caches, pools and queues.
+ * They read the counters each component already keeps, only when scraped, so nothing is added to request paths.
+ */
+@Component
+public class WoordleMeterBinder implements MeterBinder {
+
+    private final DictionaryValidationCache validationCache;
+
+    private final RandomWordPool randomWordPool;
+
+    private final DictionaryApiGuard guard;
+
+    private final DictionaryApiThrottle throttle;
+
+    private final DictionaryApiQuota quota;
+
+    private final AsyncDictionaryClient asyncClient;
+
+    private final ActiveGameStore gameStore;
+
+    private final UserStatsRecorder statsRecorder;
+
+    private final GameHistoryRecorder historyRecorder;
+
+    private final LeaderboardService leaderboardService;
+
+    private final HintService hintService;
+
+    private final WoordleUserDetailsService userDetailsService;
+
+    private final MatchService matchService;
+
+    private final ReplicaLagGuard lagGuard;
+
+    public WoordleMeterBinder(DictionaryValidationCache validationCache, RandomWordPool randomWordPool,
+                              DictionaryApiGuard guard, DictionaryApiThrottle throttle, DictionaryApiQuota quota,
+                              AsyncDictionaryClient asyncClient,
+                              ActiveGameStore gameStore, UserStatsRecorder statsRecorder,
+                              GameHistoryRecorder historyRecorder, LeaderboardService leaderboardService,
+                              HintService hintService, WoordleUserDetailsService userDetailsService,
+                              MatchService matchService, ReplicaLagGuard lagGuard) {
+        this.validationCache = validationCache;
+        this.randomWordPool = randomWordPool;
+        this.guard = guard;
+        this.throttle = throttle;
+        this.quota = quota;
+        this.asyncClient = asyncClient;
+        this.gameStore = gameStore;
+        this.statsRecorder = statsRecorder;
+        this.historyRecorder = historyRecorder;
+        this.leaderboardService = leaderboardService;
+        this.hintService = hintService;
+        this.userDetailsService = userDetailsService;
+        this.matchService = matchService;
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        bindValidationCache(registry);
+        bindRandomWordPool(registry);
+        bindDictionaryApi(registry);
+
+        Gauge.builder("woordle.games.active", gameStore, ActiveGameStore::size)
+                .description("Games in progress held in memory")
+                .register(registry);
+        FunctionCounter.builder("woordle.games.abandoned", gameStore, ActiveGameStore::getAbandonedCount)
+                .description("Games evicted from memory before they finished")
+                .register(registry);
+
+        Gauge.builder("woordle.stats.pending", statsRecorder, UserStatsRecorder::getPendingCount)
+                .description("Users with stats not yet flushed to the database")
+                .register(registry);
+        FunctionCounter.builder("woordle.stats.failed-flushes", statsRecorder, UserStatsRecorder::getFailedFlushes)
+                .register(registry);
+        Gauge.builder("woordle.history.pending", historyRecorder, GameHistoryRecorder::getPendingCount)
+                .description("Finished games not yet inserted into the history")
+                .register(registry);
+        FunctionCounter.builder("woordle.history.failed-flushes", historyRecorder, GameHistoryRecorder::getFailedFlushes)
+                .register(registry);
+
+        Gauge.builder("woordle.leaderboard.size", leaderboardService, LeaderboardService::size)
+                .register(registry);
+        Gauge.builder("woordle.hints.memo.size", hintService, HintService::getMemoSize)
+                .register(registry);
+        Gauge.builder("woordle.hints.queued-tasks", hintService, HintService::getQueuedTasks)
+                .register(registry);
+
+        Gauge.builder("woordle.auth.cache.size", userDetailsService, WoordleUserDetailsService::estimatedSize)
+                .description("Users whose login credentials are cached")
+                .register(registry);
+        FunctionCounter.builder("woordle.auth.cache.requests", userDetailsService, service -> service.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("woordle.auth.cache.requests", userDetailsService, service -> service.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+
+        Gauge.builder("woordle.matches.active", matchService, MatchService::getMatchCount)
+                .register(registry);
+        Gauge.builder("woordle.matches.subscribers", matchService, MatchService::getSubscriberCount)
+                .description("Open match streams")
+                .register(registry);
+        FunctionCounter.builder("woordle.matches.events", matchService, MatchService::getSentEvents)
+                .tag("result", "sent")
+                .register(registry);
+        FunctionCounter.builder("woordle.matches.events", matchService, MatchService::getCoalescedEvents)
+                .tag("result", "coalesced")
+                .register(registry);
+        FunctionCounter.builder("woordle.matches.events", matchService, MatchService::getFailedSends)
+                .tag("result", "failed")
+                .register(registry);
+
+        FunctionCounter.builder("woordle.datasource.reads", lagGuard, ReplicaLagGuard::getReplicaReads)
+                .description("Read-only connections by where they were routed")
+                .tag("target", "replica")
+                .register(registry);
+        FunctionCounter.builder("woordle.datasource.reads", lagGuard, ReplicaLagGuard::getPinnedReads)
+                .tag("target", "primary")
+                .register(registry);
+        Gauge.builder("woordle.datasource.pinned-users", lagGuard, ReplicaLagGuard::getPinnedUsers)
+                .register(registry);
+    }
+
+    private void bindValidationCache(MeterRegistry registry) {
+        Gauge.builder("woordle.dictionary.cache.size", validationCache, DictionaryValidationCache::estimatedSize)
+                .description("Approximate number of cached dictionary API answers")
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.cache.requests", validationCache, cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.cache.requests", validationCache, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.cache.evictions", validationCache, cache -> cache.stats().evictionCount())
+                .register(registry);
+    }
+
+    private void bindRandomWordPool(MeterRegistry registry) {
+        for (int length = LengthIndexedWordSet.MIN_LENGTH; length <= LengthIndexedWordSet.MAX_LENGTH; length++) {
+            int poolLength = length;
+            Gauge.builder("woordle.dictionary.pool.size", randomWordPool, pool -> pool.size(poolLength))
+                    .description("Pre-fetched random answers ready to serve")
+                    .tag("length", String.valueOf(length))
+                    .register(registry);
+        }
+        FunctionCounter.builder("woordle.dictionary.pool.empty", randomWordPool, RandomWordPool::getEmptyCount)
+                .description("Answers served from the local list because the pool was empty")
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.pool.refill-failures", randomWordPool, RandomWordPool::getRefillFailures)
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.pool.dropped", randomWordPool, RandomWordPool::getDroppedWords)
+                .description("Fetched answers dropped because they are missing from the local word list")
+                .register(registry);
+        Gauge.builder("woordle.dictionary.pool.refill-latency", randomWordPool, pool -> pool.getMeanRefillNanos() / 1e9)
+                .description("Mean latency of remote fetches made while refilling")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private void bindDictionaryApi(MeterRegistry registry) {
+        // 0 = closed, 1 = half open, 2 = open, matching how alerts usually threshold on it
+        Gauge.builder("woordle.dictionary.breaker.state", guard, g -> breakerLevel(g.getState()))
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.api.rejected", guard, DictionaryApiGuard::getRejectedByBreaker)
+                .tag("by", "breaker")
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.api.rejected", guard, DictionaryApiGuard::getRejectedByBulkhead)
+                .tag("by", "bulkhead")
+                .register(registry);
+        Gauge.builder("woordle.dictionary.bulkhead.available", guard, DictionaryApiGuard::getAvailableConcurrentCalls)
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.api.rejected", throttle, DictionaryApiThrottle::getThrottledByGlobal)
+                .tag("by", "global_rate")
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.api.rejected", throttle, DictionaryApiThrottle::getThrottledByUser)
+                .tag("by", "user_rate")
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.api.rejected", throttle, DictionaryApiThrottle::getThrottledByQuota)
+                .tag("by", "quota")
+                .register(registry);
+        FunctionCounter.builder("woordle.dictionary.api.throttle.wait", throttle, t -> t.getWaitNanos() / 1e9)
+                .description("Total time callers waited for the global rate limit")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("woordle.dictionary.api.throttle.users", throttle, DictionaryApiThrottle::getTrackedUsers)
+                .register(registry);
+        Gauge.builder("woordle.dictionary.api.quota.used", quota, DictionaryApiQuota::getUsed)
+                .description("Dictionary API calls made this month across all nodes")
+                .register(registry);
+        Gauge.builder("woordle.dictionary.api.quota.limit", quota, DictionaryApiQuota::getMonthlyLimit)
+                .register(registry);
+        Gauge.builder("woordle.dictionary.api.in-flight", asyncClient, AsyncDictionaryClient::getInFlightCount)
+                .description("Distinct words being looked up by the async client")
+                .register(registry);
+    }
+
+    private static double breakerLevel(CircuitBreaker.State state) {
+        return switch (state) {
+            case CLOSED, DISABLED, METRICS_ONLY -> 0;
+            case HALF_OPEN -> 1;
+            case OPEN, FORCED_OPEN -> 2;
+        };
+    }
+}
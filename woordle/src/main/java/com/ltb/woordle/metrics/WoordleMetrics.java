@@ -0,0 +1,171 @@
+package com.ltb.woordle.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers and counters for the guess, dictionary and persistence paths.
+ * <p>
+ * Every meter is registered once up front, so recording on a hot path is a lookup in a small array
+ * rather than a registry lookup. Timers publish percentile histograms, so latency percentiles can be
+ * aggregated across instances and alerted on from Prometheus.
+ * Callers take {@code System.nanoTime()} before the work and pass it to the matching {@code record} method.
+ */
+@Component
+public class WoordleMetrics {
+
+    /**
+     * How a timed lookup ended.
+     */
+    public enum Outcome {
+        FOUND("found"),
+        NOT_FOUND("not_found"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * Why a guess was rejected.
+     */
+    public enum ValidationFailure {
+        FORMAT("format"),
+        LENGTH("length"),
+        DICTIONARY("dictionary"),
+        HARD_MODE("hard_mode");
+
+        private final String tag;
+
+        ValidationFailure(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * How a call to the dictionary API ended.
+     */
+    public enum ApiOutcome {
+        SUCCESS("success"),
+        ERROR("error"),
+        REJECTED("rejected");
+
+        private final String tag;
+
+        ApiOutcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(1_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry registry;
+
+    private final Timer[] guessTimers;
+    private final Timer[] validationTimers;
+    private final Timer[] randomWordTimers;
+    private final Timer[] apiTimers;
+    private final Counter[] validationFailures;
+    private final Counter degradedValidations;
+
+    public WoordleMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.guessTimers = outcomeTimers("woordle.guess", "Time to validate and evaluate a guess");
+        this.validationTimers = outcomeTimers("woordle.dictionary.validate", "Time to check a word against the dictionary");
+        this.randomWordTimers = outcomeTimers("woordle.dictionary.random-word",
+                "Time to pick an answer; not_found means the pre-fetched pool was empty");
+
+        ApiOutcome[] apiOutcomes = ApiOutcome.values();
+        this.apiTimers = new Timer[apiOutcomes.length];
+        for (ApiOutcome outcome : apiOutcomes) {
+            apiTimers[outcome.ordinal()] = timer("woordle.dictionary.api", "Time spent calling the dictionary API")
+                    .tag("outcome", outcome.tag)
+                    .register(registry);
+        }
+
+        ValidationFailure[] failures = ValidationFailure.values();
+        this.validationFailures = new Counter[failures.length];
+        for (ValidationFailure failure : failures) {
+            validationFailures[failure.ordinal()] = Counter.builder("woordle.guess.validation.failures")
+                    .description("Guesses rejected before evaluation")
+                    .tag("reason", failure.tag)
+                    .register(registry);
+        }
+
+        this.degradedValidations = Counter.builder("woordle.dictionary.degraded")
+                .description("Guesses validated without the dictionary API because it was failing or refused")
+                .register(registry);
+    }
+
+    public void recordGuess(long startNanos, @NotNull Outcome outcome) {
+        record(guessTimers[outcome.ordinal()], startNanos);
+    }
+
+    public void recordValidation(long startNanos, @NotNull Outcome outcome) {
+        record(validationTimers[outcome.ordinal()], startNanos);
+    }
+
+    public void recordRandomWord(long startNanos, @NotNull Outcome outcome) {
+        record(randomWordTimers[outcome.ordinal()], startNanos);
+    }
+
+    public void recordApiCall(long startNanos, @NotNull ApiOutcome outcome) {
+        record(apiTimers[outcome.ordinal()], startNanos);
+    }
+
+    /**
+     * Records one batched write-behind flush.
+     *
+     * @param table      the table written to
+     * @param startNanos when the flush started
+     * @param success    whether the batch was written
+     */
+    public void recordFlush(@NotNull String table, long startNanos, boolean success) {
+        // Flushes run every few seconds, so a registry lookup here is cheap enough
+        record(timer("woordle.persistence.flush", "Time to write one JDBC batch")
+                .tag("table", table)
+                .tag("outcome", success ? "success" : "error")
+                .register(registry), startNanos);
+    }
+
+    public void validationFailed(@NotNull ValidationFailure failure) {
+        validationFailures[failure.ordinal()].increment();
+    }
+
+    public void degradedValidation() {
+        degradedValidations.increment();
+    }
+
+    private Timer[] outcomeTimers(String name, String description) {
+        Outcome[] outcomes = Outcome.values();
+        Timer[] timers = new Timer[outcomes.length];
+        for (Outcome outcome : outcomes) {
+            timers[outcome.ordinal()] = timer(name, description)
+                    .tag("outcome", outcome.tag)
+                    .register(registry);
+        }
+        return timers;
+    }
+
+    private static Timer.Builder timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED);
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ltb.woordle.models;
+
+import com.ltb.woordle.utils.HardModeConstraints;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * Live state of one in-progress game, kept in memory between guesses.
+ * <p>
+ * Kept deliberately small: the answer, the guesses as Latin-1 bytes back to back,
+ * and one packed feedback int per guess (see {@link PackedFeedback}).
+ * Guesses are recorded under the game's own lock, so one player double-submitting cannot corrupt it.
+ * Hard mode games also carry the {@link HardModeConstraints} revealed so far, updated with every guess.
+ */
+public final class ActiveGame {
+
+    private final String answer;
+    private final int maxAttempts;
+    private final byte[] guesses;
+    private final int[] feedback;
+    // The daily puzzle's day, or null for a free game
+    private final LocalDate day;
+    // Null unless the game is played in hard mode
+    private final HardModeConstraints constraints;
+    private int attempts;
+
+    public ActiveGame(@NotNull String answer, int maxAttempts) {
+        this(answer, maxAttempts, null);
+    }
+
+    public ActiveGame(@NotNull String answer, int maxAttempts, LocalDate day) {
+        this(answer, maxAttempts, day, false);
+    }
+
+    public ActiveGame(@NotNull String answer, int maxAttempts, LocalDate day, boolean hardMode) {
+        if (answer.isEmpty() || answer.length() > PackedFeedback.MAX_LENGTH || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Answer must have 1 to 15 letters and at least one attempt is required.");
+        }
+        this.answer = answer;
+        this.maxAttempts = maxAttempts;
+        this.guesses = new byte[maxAttempts * answer.length()];
+        this.feedback = new int[maxAttempts];
+        this.day = day;
+        this.constraints = hardMode ? new HardModeConstraints(answer.length()) : null;
+    }
+
+    /**
+     * Records an evaluated guess.
+     *
+     * @param guess  the normalized guess, same length as the answer
+     * @param packed the packed feedback for the guess
+     * @return the attempt number just used, from 1
+     * @throws IllegalStateException    if the game is already finished
+     * @throws IllegalArgumentException if the game is in hard mode and the guess ignores a revealed hint
+     */
+    public synchronized int recordGuess(@NotNull CharSequence guess, int packed) {
+        if (isFinished()) {
+            throw new IllegalStateException("Game is already finished.");
+        }
+        if (constraints != null) {
+            // Checked again under the lock, in case another guess was recorded since the caller's check
+            String violation = constraints.check(guess);
+            if (violation != null) {
+                throw new IllegalArgumentException(violation);
+            }
+            constraints.update(guess, packed);
+        }
+        int length = answer.length();
+        int offset = attempts * length;
+        for (int i = 0; i < length; i++) {
+            guesses[offset + i] = (byte) guess.charAt(i);
+        }
+        feedback[attempts] = packed;
+        return ++attempts;
+    }
+
+    @NotNull
+    public String getAnswer() {
+        return answer;
+    }
+
+    public int getLength() {
+        return answer.length();
+    }
+
+    /**
+     * @return the day of the daily puzzle this game plays, or null for a free game
+     */
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public boolean isHardMode() {
+        return constraints != null;
+    }
+
+    /**
+     * Checks a guess against the hints revealed so far, if the game is in hard mode.
+     *
+     * @param guess the normalized guess, same length as the answer
+     * @return null if the guess is allowed, otherwise why it is not
+     */
+    public synchronized String checkHardMode(@NotNull CharSequence guess) {
+        return constraints == null ? null : constraints.check(guess);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public synchronized int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @param attempt the attempt index, from 0
+     * @return the packed feedback of that attempt
+     */
+    public synchronized int getFeedback(int attempt) {
+        if (attempt < 0 || attempt >= attempts) {
+            throw new IndexOutOfBoundsException("No attempt " + attempt);
+        }
+        return feedback[attempt];
+    }
+
+    /**
+     * @param attempt the attempt index, from 0
+     * @return the guess made on that attempt
+     */
+    @NotNull
+    public synchronized String getGuess(int attempt) {
+        if (attempt < 0 || attempt >= attempts) {
+            throw new IndexOutOfBoundsException("No attempt " + attempt);
+        }
+        char[] chars = new char[answer.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) (guesses[attempt * chars.length + i] & 0xff);
+        }
+        return new String(chars);
+    }
+
+    public synchronized boolean isSolved() {
+        return attempts > 0 && PackedFeedback.isSolved(feedback[attempts - 1], answer.length());
+    }
+
+    public synchronized boolean isFinished() {
+        return isSolved() || attempts >= maxAttempts;
+    }
+}
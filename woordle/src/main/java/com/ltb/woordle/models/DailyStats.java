@@ -0,0 +1,22 @@
+package com.ltb.woordle.models;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyStats {
+
+    private LocalDate day;
+    private int wordLength;
+    private int players;
+    private int finished;
+    // wins[i] = players who solved it in i + 1 attempts
+    private int[] wins;
+    private int losses;
+
+}
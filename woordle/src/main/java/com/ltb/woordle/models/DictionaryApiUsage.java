@@ -0,0 +1,27 @@
+package com.ltb.woordle.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+/**
+ * Dictionary API calls made in one calendar month (UTC), across every node. Maintained by DictionaryApiQuota.
+ */
+@Entity(name = "dictionary_api_usage")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DictionaryApiUsage {
+
+    // yyyy-MM; plain "month" is a reserved word in some databases
+    @Id
+    @Column(length = 7)
+    private String billingMonth;
+
+    @Column(nullable = false)
+    private long calls;
+
+}
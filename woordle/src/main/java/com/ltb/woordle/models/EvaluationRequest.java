@@ -0,0 +1,33 @@
+package com.ltb.woordle.models;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A batch of guesses to evaluate: either one answer with many guesses, or explicit guess/answer pairs.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EvaluationRequest {
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class GuessPair {
+        private String guess;
+        private String answer;
+    }
+
+    // Shared answer for every entry of guesses
+    private String answer;
+    private List<String> guesses;
+
+    private List<GuessPair> pairs;
+
+}
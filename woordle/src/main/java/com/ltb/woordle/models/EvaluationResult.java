@@ -0,0 +1,22 @@
+package com.ltb.woordle.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EvaluationResult {
+
+    // Position of the pair in the request
+    private int index;
+    private String guess;
+    private String answer;
+    // 'C'/'P'/'A' per letter; null if the guess was rejected
+    private String feedback;
+    private String error;
+
+}
@@ -0,0 +1,23 @@
+package com.ltb.woordle.models;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameHistoryEntry {
+
+    private long id;
+    private int wordLength;
+    private int attempts;
+    private boolean won;
+    // One 'C'/'P'/'A' String per attempt
+    private List<String> feedback;
+    private Instant finishedAt;
+
+}
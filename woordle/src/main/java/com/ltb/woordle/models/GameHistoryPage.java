@@ -0,0 +1,18 @@
+package com.ltb.woordle.models;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameHistoryPage {
+
+    private List<GameHistoryEntry> games;
+    // Pass as "before" to fetch the next page; null on the last page
+    private Long nextBefore;
+
+}
@@ -0,0 +1,49 @@
+package com.ltb.woordle.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One finished game, appended to the history and never updated.
+ * Rows are inserted in JDBC batches by GameHistoryRecorder; JPA is only used to read them and define the table.
+ */
+@Entity(name = "game_history")
+@Table(indexes = @Index(name = "idx_game_history_user_id", columnList = "username, id"))
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameRecord {
+
+    /**
+     * The most attempts a recorded game can have; game.max-attempts is checked against it at startup.
+     */
+    public static final int MAX_ATTEMPTS = 16;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private int wordLength;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private boolean won;
+
+    // Packed feedback per attempt, 4 bytes each, big-endian
+    @Column(nullable = false, length = MAX_ATTEMPTS * Integer.BYTES)
+    private byte[] feedback;
+
+    @Column(nullable = false)
+    private Instant finishedAt;
+
+}
@@ -0,0 +1,17 @@
+package com.ltb.woordle.models;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GuessDistribution {
+
+    private int wordLength;
+    // wins[i] = games won in i + 1 attempts
+    private int[] wins;
+    private int losses;
+
+}
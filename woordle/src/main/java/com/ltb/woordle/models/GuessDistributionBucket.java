@@ -0,0 +1,36 @@
+package com.ltb.woordle.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * How many games a user finished in a given number of attempts, per word length.
+ * Losses are counted in the bucket for attempts = 0. Maintained incrementally by GameHistoryRecorder.
+ */
+@Entity(name = "guess_distributions")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_guess_distribution_bucket",
+        columnNames = {"username", "word_length", "attempts"}))
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GuessDistributionBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private int wordLength;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private int games;
+
+}
@@ -0,0 +1,29 @@
+package com.ltb.woordle.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GuessResult {
+
+    public enum Status { IN_PROGRESS, WON, LOST }
+
+    private List<Character> feedback;
+    private int attempts;
+    private int remainingAttempts;
+    private Status status;
+    // Dictionary words still consistent with every guess so far
+    private int remainingCandidates;
+    // Only revealed once the game is over
+    private String answer;
+    // The next game token, only when playing with stateless game tokens
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String token;
+
+}
@@ -0,0 +1,16 @@
+package com.ltb.woordle.models;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Hint {
+
+    private String guess;
+    private int remainingCandidates;
+    private double expectedBits;
+
+}
@@ -0,0 +1,16 @@
+package com.ltb.woordle.models;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaderboardEntry {
+
+    private int rank;
+    private String username;
+    private int points;
+
+}
@@ -0,0 +1,46 @@
+package com.ltb.woordle.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * What players and spectators of a head-to-head match see: every player's colored rows, without the letters.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchBoard {
+
+    private String id;
+    // Grows with every guess; sent as the event id on the match stream
+    private long version;
+    private int length;
+    private int maxAttempts;
+    // The first player to solve it, or null
+    private String winner;
+    // True once every player has finished
+    private boolean finished;
+    // Only revealed once the match is finished
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String answer;
+    private List<PlayerBoard> players;
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PlayerBoard {
+
+        private String username;
+        // One 'C'/'P'/'A' String per guess
+        private List<String> feedback;
+        private GuessResult.Status status;
+
+    }
+
+}
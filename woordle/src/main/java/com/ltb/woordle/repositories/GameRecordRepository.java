@@ -0,0 +1,16 @@
+package com.ltb.woordle.repositories;
+
+import com.ltb.woordle.models.GameRecord;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GameRecordRepository extends JpaRepository<GameRecord, Long> {
+    // Keyset pagination over the (username, id) index: newest first, no OFFSET
+    List<GameRecord> findByUsernameOrderByIdDesc(String username, Limit limit);
+
+    List<GameRecord> findByUsernameAndIdLessThanOrderByIdDesc(String username, Long id, Limit limit);
+}
@@ -0,0 +1,12 @@
+package com.ltb.woordle.repositories;
+
+import com.ltb.woordle.models.GuessDistributionBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GuessDistributionRepository extends JpaRepository<GuessDistributionBucket, Long> {
+    List<GuessDistributionBucket> findByUsernameAndWordLength(String username, int wordLength);
+}
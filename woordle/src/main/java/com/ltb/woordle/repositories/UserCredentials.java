@@ -0,0 +1,10 @@
+package com.ltb.woordle.repositories;
+
+/**
+ * Projection of a user's login columns, so authenticating does not load whole users.
+ */
+public interface UserCredentials {
+    String getUsername();
+
+    String getPassword();
+}
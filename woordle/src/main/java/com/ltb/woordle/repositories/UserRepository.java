@@ -3,9 +3,18 @@ package com.ltb.woordle.repositories;
 import com.ltb.woordle.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 import java.util.Optional;
 
+// Finders are read-only transactions so they can be served by the read replica; save and delete stay read-write
 @Repository
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    Optional<UserCredentials> findCredentialsByUsername(String username);
+
+    List<UserScore> findAllProjectedBy();
 }
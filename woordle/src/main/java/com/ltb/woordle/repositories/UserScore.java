@@ -0,0 +1,10 @@
+package com.ltb.woordle.repositories;
+
+/**
+ * Projection of a user's leaderboard columns, so loading the leaderboard does not load whole users.
+ */
+public interface UserScore {
+    String getUsername();
+
+    int getPoints();
+}
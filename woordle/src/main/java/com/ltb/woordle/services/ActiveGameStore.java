@@ -0,0 +1,77 @@
+package com.ltb.woordle.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ltb.woordle.models.ActiveGame;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory store of every in-progress game, keyed by username.
+ * <p>
+ * Games idle for longer than the timeout are dropped, and the store never holds more than its cap;
+ * past it, the least valuable entries are evicted first. Finished games are removed by {@link GameService},
+ * which is the only point where a game reaches the database.
+ */
+@Component
+public class ActiveGameStore {
+
+    private final Cache<String, ActiveGame> games;
+
+    private final AtomicLong abandoned = new AtomicLong();
+
+    public ActiveGameStore(@Value("${game.store.max-games:500000}") long maxGames,
+                           @Value("${game.store.idle-timeout:30m}") Duration idleTimeout) {
+        this.games = Caffeine.newBuilder()
+                .maximumSize(maxGames)
+                .expireAfterAccess(idleTimeout)
+                .removalListener((String username, ActiveGame game, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        abandoned.incrementAndGet();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @return the user's in-progress game, or null if there is none
+     */
+    public ActiveGame get(@NotNull String username) {
+        return games.getIfPresent(username);
+    }
+
+    /**
+     * Starts tracking a new game for the user, replacing any game in progress.
+     */
+    public void put(@NotNull String username, @NotNull ActiveGame game) {
+        games.put(username, game);
+    }
+
+    /**
+     * Stops tracking a game, only if it is still the user's current one.
+     *
+     * @return true if the game was removed
+     */
+    public boolean remove(@NotNull String username, @NotNull ActiveGame game) {
+        return games.asMap().remove(username, game);
+    }
+
+    /**
+     * @return the approximate number of games in progress
+     */
+    public long size() {
+        return games.estimatedSize();
+    }
+
+    /**
+     * @return how many games were dropped for being idle or over the cap
+     */
+    public long getAbandonedCount() {
+        return abandoned.get();
+    }
+}
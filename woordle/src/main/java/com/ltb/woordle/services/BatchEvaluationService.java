@@ -0,0 +1,198 @@
+package com.ltb.woordle.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ltb.woordle.models.EvaluationRequest;
+import com.ltb.woordle.models.EvaluationResult;
+import com.ltb.woordle.utils.PackedFeedback;
+import jakarta.annotation.PreDestroy;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.ltb.woordle.utils.WordValidator.*;
+
+/**
+ * Evaluates large batches of guesses and streams the results as newline-delimited JSON.
+ * <p>
+ * The batch is cut into chunks. Each chunk's distinct guesses are validated together, sharing one dictionary
+ * lookup per word across the whole batch, then the chunk is evaluated on a dedicated fork-join pool with the
+ * same rules as WordService.checkLetters. Only a bounded window of chunks is in flight at once,
+ * and chunks are written in request order as soon as they are ready, so the response is never buffered whole.
+ */
+@Service
+public class BatchEvaluationService {
+
+    private final DictionaryService dictionaryService;
+
+    private final ObjectMapper objectMapper;
+
+    private final ForkJoinPool pool;
+
+    @Value("${evaluation.max-pairs:100000}")
+    private int maxPairs;
+
+    @Value("${evaluation.chunk-size:512}")
+    private int chunkSize;
+
+    public BatchEvaluationService(DictionaryService dictionaryService, ObjectMapper objectMapper,
+                                  @Value("${evaluation.parallelism:0}") int parallelism) {
+        this.dictionaryService = dictionaryService;
+        this.objectMapper = objectMapper;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Checks that a request is well-formed before any output is written, so errors can still become a 400.
+     *
+     * @param request the batch
+     * @return the number of guess/answer pairs in it
+     * @throws IllegalArgumentException if the request has neither guesses and an answer nor pairs,
+     *                                  or more than evaluation.max-pairs entries
+     */
+    public int checkRequest(@NotNull EvaluationRequest request) {
+        boolean hasGuesses = request.getGuesses() != null && !request.getGuesses().isEmpty();
+        boolean hasPairs = request.getPairs() != null && !request.getPairs().isEmpty();
+        if (hasGuesses == hasPairs) {
+            throw new IllegalArgumentException("Send either an answer with guesses, or pairs, but not both.");
+        }
+        if (hasGuesses && (request.getAnswer() == null || request.getAnswer().isBlank())) {
+            throw new IllegalArgumentException("An answer is required when sending guesses.");
+        }
+        int size = hasGuesses ? request.getGuesses().size() : request.getPairs().size();
+        if (size > maxPairs) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxPairs + " guesses.");
+        }
+        return size;
+    }
+
+    /**
+     * Evaluates every pair in the batch and writes one JSON object per line to out, in request order.
+     *
+     * @param request the batch, already accepted by {@link #checkRequest(EvaluationRequest)}
+     * @param out     where to stream the results; flushed after every chunk
+     * @throws IOException if writing to out fails
+     */
+    public void evaluate(@NotNull EvaluationRequest request, @NotNull OutputStream out) throws IOException {
+        int size = checkRequest(request);
+        Map<String, CompletableFuture<Boolean>> validity = new ConcurrentHashMap<>();
+        int window = Math.max(2, pool.getParallelism() * 2);
+        Deque<CompletableFuture<List<EvaluationResult>>> inFlight = new ArrayDeque<>(window);
+
+        try {
+            for (int from = 0; from < size; from += chunkSize) {
+                if (inFlight.size() >= window) {
+                    write(inFlight.poll().join(), out);
+                }
+                inFlight.add(evaluateChunk(request, from, Math.min(from + chunkSize, size), validity));
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll().join(), out);
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            inFlight.forEach(chunk -> chunk.cancel(false));
+        }
+    }
+
+    private CompletableFuture<List<EvaluationResult>> evaluateChunk(EvaluationRequest request, int from, int to,
+                                                                    Map<String, CompletableFuture<Boolean>> validity) {
+        String[] guesses = new String[to - from];
+        String[] answers = new String[to - from];
+        List<CompletableFuture<Boolean>> lookups = new ArrayList<>();
+
+        for (int i = from; i < to; i++) {
+            String guess = normalizeOrEmpty(guessAt(request, i));
+            guesses[i - from] = guess;
+            answers[i - from] = normalizeOrEmpty(answerAt(request, i));
+            // One lookup per distinct word across the whole batch
+            if (!guess.isEmpty() && !validity.containsKey(guess)) {
+                lookups.add(validity.computeIfAbsent(guess, this::validate));
+            }
+        }
+
+        return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+                .thenApplyAsync(ignored -> {
+                    List<EvaluationResult> results = new ArrayList<>(guesses.length);
+                    for (int i = 0; i < guesses.length; i++) {
+                        results.add(evaluateOne(from + i, guesses[i], answers[i], validity));
+                    }
+                    return results;
+                }, pool);
+    }
+
+    private CompletableFuture<Boolean> validate(String guess) {
+        if (!isValidAlphabeticWord(guess)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        // Failed lookups are treated as invalid words, so one bad lookup cannot fail the batch
+        return dictionaryService.isValidDictionaryWordAsync(guess).exceptionally(failure -> false);
+    }
+
+    private EvaluationResult evaluateOne(int index, String guess, String answer,
+                                         Map<String, CompletableFuture<Boolean>> validity) {
+        EvaluationResult.EvaluationResultBuilder result = EvaluationResult.builder()
+                .index(index)
+                .guess(guess)
+                .answer(answer);
+
+        if (answer.isEmpty() || answer.length() > PackedFeedback.MAX_LENGTH || !isValidAlphabeticWord(answer)) {
+            return result.error("Answer is not a word of 1 to " + PackedFeedback.MAX_LENGTH + " letters.").build();
+        }
+        if (guess.length() != answer.length()) {
+            return result.error("Guess and answer lengths differ.").build();
+        }
+        CompletableFuture<Boolean> valid = validity.get(guess);
+        if (valid == null || !valid.join()) {
+            return result.error("Could not validate guess \"" + guess + "\"").build();
+        }
+        return result.feedback(PackedFeedback.toString(PackedFeedback.evaluate(guess, answer), guess.length())).build();
+    }
+
+    private void write(List<EvaluationResult> results, OutputStream out) throws IOException {
+        for (EvaluationResult result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private static String guessAt(EvaluationRequest request, int index) {
+        return request.getGuesses() != null && !request.getGuesses().isEmpty()
+                ? request.getGuesses().get(index)
+                : pairAt(request, index).getGuess();
+    }
+
+    private static String answerAt(EvaluationRequest request, int index) {
+        return request.getGuesses() != null && !request.getGuesses().isEmpty()
+                ? request.getAnswer()
+                : pairAt(request, index).getAnswer();
+    }
+
+    private static EvaluationRequest.GuessPair pairAt(EvaluationRequest request, int index) {
+        EvaluationRequest.GuessPair pair = request.getPairs().get(index);
+        return pair != null ? pair : new EvaluationRequest.GuessPair();
+    }
+
+    // Blank entries become "" and are reported per line instead of failing the batch
+    private static String normalizeOrEmpty(String word) {
+        return word == null || word.isBlank() ? "" : normalizeWord(word);
+    }
+}
@@ -1,51 +1,56 @@
 package com.ltb.woordle.services;
 
+import com.ltb.woordle.dictionary.AsyncDictionaryClient;
+import com.ltb.woordle.dictionary.DictionaryValidationCache;
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.dictionary.RandomWordPool;
+import com.ltb.woordle.dictionary.WordsApiDictionaryProvider;
+import com.ltb.woordle.exceptions.DictionaryRateLimitedException;
 import com.ltb.woordle.exceptions.DictionaryServiceException;
-import com.ltb.woordle.models.Word;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.ltb.woordle.metrics.WoordleMetrics.Outcome;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.*;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import static com.ltb.woordle.utils.WordValidator.*;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.ltb.woordle.utils.WordValidator.*;
 
 @Service
 public class DictionaryService {
 
-    private final RestTemplate restTemplate;
+    private final LocalDictionaryProvider localProvider;
 
-    private final ObjectMapper objectMapper;
+    private final WordsApiDictionaryProvider remoteProvider;
 
-    public DictionaryService(RestTemplate restTemplate, ObjectMapper objectMapper) {
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
-    }
+    private final DictionaryValidationCache validationCache;
 
-    @Value("${dictionary.api.key}")
-    private String apiKey;
+    private final RandomWordPool randomWordPool;
 
-    @Value("${dictionary.base-url}")
-    private String baseUrl;
+    private final AsyncDictionaryClient asyncClient;
 
-    @Value("${dictionary.host}")
-    private String hostHeader;
+    private final WoordleMetrics metrics;
 
-    @Contract(" -> new")
-    private @NotNull HttpEntity<Void> createRequestEntity() {
-        // RapidAPI requires these headers for authentication
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("x-rapidapi-host", hostHeader);
-        headers.set("x-rapidapi-key", apiKey);
-        return new HttpEntity<>(headers);
+    public DictionaryService(LocalDictionaryProvider localProvider, WordsApiDictionaryProvider remoteProvider,
+                             DictionaryValidationCache validationCache, RandomWordPool randomWordPool,
+                             AsyncDictionaryClient asyncClient, WoordleMetrics metrics) {
+        this.localProvider = localProvider;
+        this.remoteProvider = remoteProvider;
+        this.validationCache = validationCache;
+        this.randomWordPool = randomWordPool;
+        this.asyncClient = asyncClient;
+        this.metrics = metrics;
     }
 
+    @Value("${dictionary.remote.fallback-enabled:false}")
+    private boolean remoteFallbackEnabled;
+
+    @Value("${dictionary.degraded.accept-unknown:true}")
+    private boolean acceptUnknownWhenDegraded;
+
     /**
      * For MVP, fetches a random 5-letter word by wrapping a more flexible API-calling method.
      *
@@ -57,95 +62,138 @@ public class DictionaryService {
     }
 
     /**
-     * Fetches a random word of the specified length from the dictionary API.
+     * Takes a random word of the specified length from the pool of answers pre-fetched from the dictionary API.
+     * Falls back to the local word list when the pool is empty, so this never blocks on the network.
+     * Timed as woordle.dictionary.random-word, with outcome not_found when the pool was empty.
      *
      * @param length length of the desired word; must be between 1 and 15.
      * @return a random word of the specified length.
      * @throws IllegalArgumentException if length is invalid or no word is available.
-     * @throws DictionaryServiceException     if there is an error communicating with the dictionary API.
      */
     @NotNull
     public String getRandomWord(int length) {
-        if (length <= 0 || length > 15) {
-            throw new IllegalArgumentException("Length must be a positive integer no greater than 15.");
-        }
-
+        long start = System.nanoTime();
         try {
-
-            HttpEntity<Void> requestEntity = createRequestEntity();
-            String word;
-
-            do {
-                ResponseEntity<String> response = restTemplate.exchange(
-                        baseUrl + "/words/?letters=" + length + "&random=true",
-                        HttpMethod.GET, requestEntity, String.class);
-
-                if (!response.hasBody() || response.getStatusCode().is4xxClientError()) {
-                    throw new IllegalArgumentException("No words of length " + length + " available");
-                }
-
-                Word wordObj = objectMapper.readValue(response.getBody(), Word.class);
-
-                if (wordObj == null) {
-                    throw new DictionaryServiceException("Received invalid word from dictionary API");
-                }
-
-                wordObj.populateCharacters();
-                word = normalizeWord(wordObj.getWord());
-
-            } while (!isValidAlphabeticWord(word));
-
+            String word = randomWordPool.poll(length);
+            if (word != null) {
+                metrics.recordRandomWord(start, Outcome.FOUND);
+                return word;
+            }
+            word = localProvider.getRandomWord(length);
+            metrics.recordRandomWord(start, Outcome.NOT_FOUND);
             return word;
-
-        } catch (RestClientException | IOException e) {
-            throw new DictionaryServiceException("Failed to fetch or parse random word from dictionary API", e);
+        } catch (RuntimeException e) {
+            metrics.recordRandomWord(start, Outcome.ERROR);
+            throw e;
         }
     }
 
     @Contract("null -> fail")
-    boolean isValidDictionaryWord(String guess) {
+    boolean isValidDictionaryWord(CharSequence guess) {
 
         /*
          Method to validate player guess.
-         Searches dictionary API for the guessed word.
-         Returns boolean based on API response.
-         Throws various exceptions on failure states.
+         Checks the bundled local word list first, which needs no network.
+         Only alphabetic words missing from the local list go to the remote dictionary API,
+         and only when the remote fallback is enabled.
+         Remote answers, including 404s, are cached so repeat guesses stay in the JVM.
+         If the API fails or is refused by the circuit breaker or bulkhead,
+         the guess is validated locally instead (see validateDegraded).
+         A refusal by a rate limit or the quota falls back strictly: only cached answers are trusted,
+         so exceeding a limit never gets a word accepted that the API would reject.
         */
 
         if (guess == null || guess.isEmpty()) {
             throw new IllegalArgumentException("Word passed to dictionary validation cannot be null or empty");
         }
 
-        try {
-            HttpEntity<Void> requestEntity = createRequestEntity();
-            ResponseEntity<String> response = restTemplate.exchange(
-                    baseUrl + "/" + guess,
-                    HttpMethod.GET, requestEntity, String.class);
+        long start = System.nanoTime();
+        boolean valid;
+        if (localProvider.contains(guess)) {
+            valid = true;
+        } else if (!remoteFallbackEnabled || !isValidAlphabeticWord(guess)) {
+            valid = false;
+        } else {
+            String word = guess.toString();
+            try {
+                valid = validationCache.isValidWord(word, remoteProvider::isValidWord);
+            } catch (DictionaryServiceException e) {
+                metrics.recordValidation(start, Outcome.ERROR);
+                return validateDegraded(word, e instanceof DictionaryRateLimitedException);
+            }
+        }
 
-            return response.getStatusCode().is2xxSuccessful();
+        metrics.recordValidation(start, valid ? Outcome.FOUND : Outcome.NOT_FOUND);
+        return valid;
 
-        } catch (HttpClientErrorException.NotFound e) {
-            // 404 = word doesn't exist - this is expected, not an error
-            return false;
-        }
+    }
 
-        // Failure states
-        catch (HttpClientErrorException.Unauthorized e) {
-            throw new DictionaryServiceException("Dictionary API authentication failed", e);
+    /**
+     * Non-blocking counterpart of {@link #isValidDictionaryWord(CharSequence)}.
+     * Local and cached words complete immediately; anything else is looked up through the
+     * {@link AsyncDictionaryClient}, which shares one request between concurrent lookups of the same word.
+     *
+     * @param guess the normalized guess
+     * @return a future completing with the word's validity, falling back to local validation like the blocking
+     * variant when the lookup fails or is refused
+     * @throws IllegalArgumentException if guess is null or empty
+     */
+    @Contract("null -> fail")
+    @NotNull
+    CompletableFuture<Boolean> isValidDictionaryWordAsync(CharSequence guess) {
 
-        } catch (HttpClientErrorException e) {
-            throw new DictionaryServiceException("Dictionary API client error: " + e.getStatusCode(), e);
+        if (guess == null || guess.isEmpty()) {
+            throw new IllegalArgumentException("Word passed to dictionary validation cannot be null or empty");
+        }
 
-        } catch (HttpServerErrorException e) {
-            throw new DictionaryServiceException("Dictionary API server error: " + e.getStatusCode(), e);
+        long start = System.nanoTime();
+        if (localProvider.contains(guess)) {
+            metrics.recordValidation(start, Outcome.FOUND);
+            return CompletableFuture.completedFuture(true);
+        }
 
-        } catch (ResourceAccessException e) {
-            throw new DictionaryServiceException("Cannot reach dictionary API", e);
+        if (!remoteFallbackEnabled || !isValidAlphabeticWord(guess)) {
+            metrics.recordValidation(start, Outcome.NOT_FOUND);
+            return CompletableFuture.completedFuture(false);
+        }
 
-        } catch (RestClientException e) {
-            throw new DictionaryServiceException("Failed to validate word", e);
+        String word = guess.toString();
+        Boolean cached = validationCache.getIfPresent(word);
+        if (cached != null) {
+            metrics.recordValidation(start, cached ? Outcome.FOUND : Outcome.NOT_FOUND);
+            return CompletableFuture.completedFuture(cached);
         }
 
+        return asyncClient.isValidWord(word)
+                .thenApply(valid -> {
+                    validationCache.put(word, valid);
+                    metrics.recordValidation(start, valid ? Outcome.FOUND : Outcome.NOT_FOUND);
+                    return valid;
+                })
+                .exceptionally(failure -> {
+                    metrics.recordValidation(start, Outcome.ERROR);
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure;
+                    return validateDegraded(word, cause instanceof DictionaryRateLimitedException);
+                });
+
+    }
+
+    /**
+     * Validates a guess that is not in the local list without the dictionary API, used while the API is failing,
+     * the circuit breaker is open or a rate limit refused the lookup.
+     * A cached answer wins; otherwise, unknown but alphabetic words are accepted when
+     * dictionary.degraded.accept-unknown is set, so players are not blocked by an outage.
+     * A strict fallback never accepts unknown words, so a player cannot get around the dictionary by
+     * exceeding a rate limit on purpose.
+     */
+    private boolean validateDegraded(String word, boolean strict) {
+        metrics.degradedValidation();
+        Boolean cached = validationCache.getIfPresent(word);
+        if (cached != null) {
+            return cached;
+        }
+        return !strict && acceptUnknownWhenDegraded && isValidAlphabeticWord(word);
     }
 
 }
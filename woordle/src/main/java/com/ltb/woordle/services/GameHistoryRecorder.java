@@ -0,0 +1,252 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GameRecord;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind recorder for the append-only game history.
+ * <p>
+ * Finished games are queued in memory and flushed periodically as batched inserts into {@code game_history}.
+ * Each user's guess distribution is materialized incrementally alongside: bucket increments are folded in memory
+ * and applied as batched upserts into {@code guess_distributions}, so reading a histogram never scans the history.
+ * Like {@link UserStatsRecorder}, rows from a failed flush are kept for the next one, and flushed users are
+ * reported to the {@link ReplicaLagGuard}. A failed batch of games goes back to the head of the queue and ends
+ * the flush, so history is inserted in the order games finished and a database outage costs one batch per flush.
+ */
+@Component
+public class GameHistoryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(GameHistoryRecorder.class);
+
+    private static final String INSERT_GAME = "INSERT INTO game_history " +
+            "(username, word_length, attempts, won, feedback, finished_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_BUCKET = "INSERT INTO guess_distributions " +
+            "(username, word_length, attempts, games) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE games = games + VALUES(games)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReplicaLagGuard lagGuard;
+
+    private final WoordleMetrics metrics;
+
+    private final ConcurrentLinkedDeque<FinishedGame> pendingGames = new ConcurrentLinkedDeque<>();
+
+    private final ConcurrentHashMap<BucketKey, Integer> pendingBuckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong insertedGames = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    @Value("${stats.flush.batch-size:500}")
+    private int batchSize;
+
+    @Value("${game.max-attempts:6}")
+    private int maxAttempts;
+
+    public GameHistoryRecorder(JdbcTemplate jdbcTemplate, ReplicaLagGuard lagGuard, WoordleMetrics metrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lagGuard = lagGuard;
+        this.metrics = metrics;
+    }
+
+    /**
+     * A finished game waiting to be inserted.
+     */
+    record FinishedGame(String username, int wordLength, int attempts, boolean won, byte[] feedback,
+                        Instant finishedAt) {
+    }
+
+    /**
+     * One histogram bucket: games of a word length finished in a number of attempts, 0 for losses.
+     */
+    record BucketKey(String username, int wordLength, int attempts) {
+    }
+
+    /**
+     * Records a finished game. Returns immediately; the database is updated on the next flush.
+     *
+     * @param username the player
+     * @param game     the finished game
+     * @param won      whether the player won
+     */
+    public void record(@NotNull String username, @NotNull ActiveGame game, boolean won) {
+        int attempts = game.getAttempts();
+        pendingGames.add(new FinishedGame(username, game.getLength(), attempts, won,
+                packFeedback(game), Instant.now()));
+        pendingBuckets.merge(new BucketKey(username, game.getLength(), won ? attempts : 0), 1, Integer::sum);
+    }
+
+    // The feedback column holds a fixed number of attempts, so refuse to start rather than fail every insert
+    @PostConstruct
+    void checkMaxAttempts() {
+        if (maxAttempts > GameRecord.MAX_ATTEMPTS) {
+            throw new IllegalStateException("game.max-attempts is " + maxAttempts
+                    + ", but game history only has room for " + GameRecord.MAX_ATTEMPTS + " attempts");
+        }
+    }
+
+    /**
+     * Writes every queued game and histogram increment in JDBC batches.
+     */
+    @Scheduled(fixedDelayString = "${stats.flush.interval-ms:2000}")
+    public void flush() {
+        flushGames();
+        flushBuckets();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pendingGames.isEmpty() || !pendingBuckets.isEmpty()) {
+            log.error("Shutting down with {} unflushed games", pendingGames.size());
+        }
+    }
+
+    /**
+     * Concatenates the packed feedback of every attempt, 4 bytes each, big-endian.
+     */
+    @NotNull
+    static byte[] packFeedback(@NotNull ActiveGame game) {
+        int attempts = game.getAttempts();
+        ByteBuffer buffer = ByteBuffer.allocate(attempts * Integer.BYTES);
+        for (int i = 0; i < attempts; i++) {
+            buffer.putInt(game.getFeedback(i));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reverses {@link #packFeedback(ActiveGame)}.
+     */
+    @NotNull
+    static int[] unpackFeedback(@NotNull byte[] feedback) {
+        ByteBuffer buffer = ByteBuffer.wrap(feedback);
+        int[] packed = new int[feedback.length / Integer.BYTES];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = buffer.getInt();
+        }
+        return packed;
+    }
+
+    /**
+     * @return the number of finished games not yet inserted
+     */
+    public int getPendingCount() {
+        return pendingGames.size();
+    }
+
+    public long getInsertedGames() {
+        return insertedGames.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    private void flushGames() {
+        List<FinishedGame> batch = new ArrayList<>(batchSize);
+        FinishedGame game;
+        while ((game = pendingGames.poll()) != null) {
+            batch.add(game);
+            if (batch.size() == batchSize) {
+                if (!insertGames(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertGames(batch);
+        }
+    }
+
+    private boolean insertGames(List<FinishedGame> batch) {
+        List<Object[]> arguments = new ArrayList<>(batch.size());
+        for (FinishedGame game : batch) {
+            arguments.add(new Object[]{game.username(), game.wordLength(), game.attempts(), game.won(),
+                    game.feedback(), Timestamp.from(game.finishedAt())});
+        }
+
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_GAME, arguments);
+            metrics.recordFlush("game_history", start, true);
+            insertedGames.addAndGet(batch.size());
+            for (FinishedGame game : batch) {
+                lagGuard.recordWrite(game.username());
+            }
+            return true;
+        } catch (DataAccessException e) {
+            metrics.recordFlush("game_history", start, false);
+            failedFlushes.incrementAndGet();
+            log.error("Failed to insert {} finished games, will retry", batch.size(), e);
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pendingGames.offerFirst(batch.get(i));
+            }
+            return false;
+        }
+    }
+
+    private void flushBuckets() {
+        if (pendingBuckets.isEmpty()) {
+            return;
+        }
+
+        // Take each increment atomically; games recorded meanwhile start a fresh increment for the next flush
+        List<Map.Entry<BucketKey, Integer>> drained = new ArrayList<>(pendingBuckets.size());
+        for (BucketKey key : pendingBuckets.keySet()) {
+            Integer games = pendingBuckets.remove(key);
+            if (games != null) {
+                drained.add(Map.entry(key, games));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Map.Entry<BucketKey, Integer>> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            List<Object[]> arguments = new ArrayList<>(batch.size());
+            for (Map.Entry<BucketKey, Integer> entry : batch) {
+                BucketKey key = entry.getKey();
+                arguments.add(new Object[]{key.username(), key.wordLength(), key.attempts(), entry.getValue()});
+            }
+
+            long start = System.nanoTime();
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_BUCKET, arguments);
+                metrics.recordFlush("guess_distributions", start, true);
+                for (Map.Entry<BucketKey, Integer> entry : batch) {
+                    lagGuard.recordWrite(entry.getKey().username());
+                }
+            } catch (DataAccessException e) {
+                metrics.recordFlush("guess_distributions", start, false);
+                failedFlushes.incrementAndGet();
+                log.error("Failed to update {} guess distribution buckets, will retry", batch.size(), e);
+                for (Map.Entry<BucketKey, Integer> entry : batch) {
+                    pendingBuckets.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.models.*;
+import com.ltb.woordle.repositories.GameRecordRepository;
+import com.ltb.woordle.repositories.GuessDistributionRepository;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read side of the game history written by {@link GameHistoryRecorder}.
+ * Recently finished games show up once the recorder has flushed them.
+ * Queries run in read-only transactions, so they go to the read replica when one is configured.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GameHistoryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final GameRecordRepository gameRecordRepository;
+
+    private final GuessDistributionRepository distributionRepository;
+
+    @Value("${game.max-attempts:6}")
+    private int maxAttempts;
+
+    public GameHistoryService(GameRecordRepository gameRecordRepository,
+                              GuessDistributionRepository distributionRepository) {
+        this.gameRecordRepository = gameRecordRepository;
+        this.distributionRepository = distributionRepository;
+    }
+
+    /**
+     * Fetches one page of a user's finished games, newest first.
+     * Pages are keyed on the last id seen rather than an offset, so deep pages cost the same as the first.
+     *
+     * @param username the player
+     * @param before   only return games with an id below this one; null for the first page
+     * @param limit    the page size, capped at {@link #MAX_PAGE_SIZE}
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    @NotNull
+    public GameHistoryPage getHistory(@NotNull String username, Long before, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        List<GameRecord> records = before == null
+                ? gameRecordRepository.findByUsernameOrderByIdDesc(username, Limit.of(pageSize))
+                : gameRecordRepository.findByUsernameAndIdLessThanOrderByIdDesc(username, before, Limit.of(pageSize));
+
+        List<GameHistoryEntry> games = new ArrayList<>(records.size());
+        for (GameRecord record : records) {
+            games.add(toEntry(record));
+        }
+
+        Long nextBefore = records.size() == pageSize ? records.get(records.size() - 1).getId() : null;
+        return GameHistoryPage.builder()
+                .games(games)
+                .nextBefore(nextBefore)
+                .build();
+    }
+
+    /**
+     * Reads a user's materialized guess distribution for one word length.
+     *
+     * @param username   the player
+     * @param wordLength the word length
+     * @return wins per attempt count and losses
+     */
+    @NotNull
+    public GuessDistribution getDistribution(@NotNull String username, int wordLength) {
+        int[] wins = new int[maxAttempts];
+        int losses = 0;
+        for (GuessDistributionBucket bucket : distributionRepository.findByUsernameAndWordLength(username, wordLength)) {
+            if (bucket.getAttempts() == 0) {
+                losses += bucket.getGames();
+            } else if (bucket.getAttempts() <= maxAttempts) {
+                wins[bucket.getAttempts() - 1] += bucket.getGames();
+            }
+        }
+        return GuessDistribution.builder()
+                .wordLength(wordLength)
+                .wins(wins)
+                .losses(losses)
+                .build();
+    }
+
+    private GameHistoryEntry toEntry(GameRecord record) {
+        int[] packed = GameHistoryRecorder.unpackFeedback(record.getFeedback());
+        List<String> feedback = new ArrayList<>(packed.length);
+        for (int attempt : packed) {
+            feedback.add(PackedFeedback.toString(attempt, record.getWordLength()));
+        }
+        return GameHistoryEntry.builder()
+                .id(record.getId())
+                .wordLength(record.getWordLength())
+                .attempts(record.getAttempts())
+                .won(record.isWon())
+                .feedback(feedback)
+                .finishedAt(record.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.daily.DailyPuzzleService;
+import com.ltb.woordle.leaderboard.LeaderboardService;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.solver.CandidateIndex;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.function.BooleanSupplier;
+
+import static com.ltb.woordle.utils.WordValidator.*;
+
+/**
+ * Runs games from start to finish.
+ * Every guess is served from the {@link ActiveGameStore}; finished games go to the {@link UserStatsRecorder}
+ * and the {@link GameHistoryRecorder}.
+ */
+@Service
+public class GameService {
+
+    private final ActiveGameStore gameStore;
+
+    private final DictionaryService dictionaryService;
+
+    private final WordService wordService;
+
+    private final UserStatsRecorder statsRecorder;
+
+    private final LeaderboardService leaderboardService;
+
+    private final GameHistoryRecorder historyRecorder;
+
+    private final DailyPuzzleService dailyPuzzleService;
+
+    private final CandidateIndex candidateIndex;
+
+    @Value("${game.max-attempts:6}")
+    private int maxAttempts;
+
+    public GameService(ActiveGameStore gameStore, DictionaryService dictionaryService,
+                       WordService wordService, UserStatsRecorder statsRecorder,
+                       LeaderboardService leaderboardService, GameHistoryRecorder historyRecorder,
+                       DailyPuzzleService dailyPuzzleService, CandidateIndex candidateIndex) {
+        this.gameStore = gameStore;
+        this.dictionaryService = dictionaryService;
+        this.wordService = wordService;
+        this.statsRecorder = statsRecorder;
+        this.leaderboardService = leaderboardService;
+        this.historyRecorder = historyRecorder;
+        this.dailyPuzzleService = dailyPuzzleService;
+        this.candidateIndex = candidateIndex;
+    }
+
+    /**
+     * Starts a new game for the user, abandoning any game in progress.
+     *
+     * @param username the player
+     * @param length   the word length, from 1 to 15
+     * @return the new game
+     */
+    @NotNull
+    public ActiveGame startGame(@NotNull String username, int length) {
+        return startGame(username, length, false);
+    }
+
+    /**
+     * Starts a new game for the user, abandoning any game in progress.
+     *
+     * @param username the player
+     * @param length   the word length, from 1 to 15
+     * @param hardMode whether every guess must use the hints revealed so far
+     * @return the new game
+     */
+    @NotNull
+    public ActiveGame startGame(@NotNull String username, int length, boolean hardMode) {
+        ActiveGame game = newGame(length, hardMode);
+        gameStore.put(username, game);
+        return game;
+    }
+
+    /**
+     * Creates a free game without tracking it, for callers that keep the game themselves (see GameTokenService).
+     *
+     * @param length   the word length, from 1 to 15
+     * @param hardMode whether every guess must use the hints revealed so far
+     * @return the new game
+     */
+    @NotNull
+    public ActiveGame newGame(int length, boolean hardMode) {
+        return new ActiveGame(dictionaryService.getRandomWord(length), maxAttempts, null, hardMode);
+    }
+
+    /**
+     * Starts today's shared puzzle for the user, abandoning any game in progress.
+     * The answer is served from memory; each player gets one try per day and length.
+     *
+     * @param username the player
+     * @param length   the word length
+     * @param hardMode whether every guess must use the hints revealed so far
+     * @return the new game
+     * @throws IllegalArgumentException if there is no daily puzzle for that length
+     * @throws IllegalStateException    if the user already started today's puzzle
+     */
+    @NotNull
+    public ActiveGame startDailyGame(@NotNull String username, int length, boolean hardMode) {
+        LocalDate day = dailyPuzzleService.today();
+        String answer = dailyPuzzleService.getAnswer(day, length);
+        if (!dailyPuzzleService.markPlayed(username, day, length)) {
+            throw new IllegalStateException("Today's puzzle has already been played.");
+        }
+        ActiveGame game = new ActiveGame(answer, maxAttempts, day, hardMode);
+        gameStore.put(username, game);
+        return game;
+    }
+
+    /**
+     * Evaluates a guess in the user's current game. If it ends the game, the result is recorded.
+     *
+     * @param username the player
+     * @param guess    the raw guess
+     * @return the feedback, the game's status and how many dictionary words are still possible after this guess
+     * @throws IllegalStateException    if the user has no game in progress
+     * @throws IllegalArgumentException if the game is in hard mode and the guess ignores a revealed hint
+     */
+    @NotNull
+    public GuessResult guess(@NotNull String username, @NotNull String guess) {
+        ActiveGame game = gameStore.get(username);
+        if (game == null) {
+            throw new IllegalStateException("No game in progress.");
+        }
+        // Only the request that removes the game records it, so a double submit cannot count twice
+        return guess(username, game, guess, () -> gameStore.remove(username, game));
+    }
+
+    /**
+     * Evaluates a guess in a game the caller holds rather than the {@link ActiveGameStore}.
+     *
+     * @param username the player
+     * @param game     the game
+     * @param guess    the raw guess
+     * @param claim    asked once the guess ends the game; the result is recorded only if it returns true
+     * @return the feedback, the game's status and how many dictionary words are still possible after this guess
+     * @throws IllegalStateException    if the game is already finished
+     * @throws IllegalArgumentException if the game is in hard mode and the guess ignores a revealed hint
+     */
+    @NotNull
+    public GuessResult guess(@NotNull String username, @NotNull ActiveGame game, @NotNull String guess,
+                             @NotNull BooleanSupplier claim) {
+        return guess(username, game, guess, claim, true);
+    }
+
+    /**
+     * Evaluates a guess in a game the caller holds, optionally without awarding points.
+     * An unranked game is still recorded in the player's stats and history, with zero points,
+     * for games whose server-side bookkeeping cannot rule out replays or collusion.
+     *
+     * @param username the player
+     * @param game     the game
+     * @param guess    the raw guess
+     * @param claim    asked once the guess ends the game; the result is recorded only if it returns true
+     * @param ranked   whether finishing the game earns points
+     * @return the feedback, the game's status and how many dictionary words are still possible after this guess
+     * @throws IllegalStateException    if the game is already finished
+     * @throws IllegalArgumentException if the game is in hard mode and the guess ignores a revealed hint
+     */
+    @NotNull
+    public GuessResult guess(@NotNull String username, @NotNull ActiveGame game, @NotNull String guess,
+                             @NotNull BooleanSupplier claim, boolean ranked) {
+        String normalizedGuess = normalizeWord(guess);
+        // Everything that can be checked without the dictionary is, so a doomed guess costs no lookup
+        if (game.isFinished()) {
+            throw new IllegalStateException("Game is already finished.");
+        }
+        wordService.checkFormat(game, normalizedGuess);
+        wordService.checkHardMode(game, normalizedGuess);
+        int packed = wordService.handleGuessPacked(normalizedGuess, game.getAnswer());
+        int attempts = game.recordGuess(normalizedGuess, packed);
+
+        GuessResult.Status status = GuessResult.Status.IN_PROGRESS;
+        if (game.isFinished()) {
+            boolean won = game.isSolved();
+            status = won ? GuessResult.Status.WON : GuessResult.Status.LOST;
+            if (claim.getAsBoolean()) {
+                finishGame(username, game, won, ranked);
+            }
+        }
+
+        return GuessResult.builder()
+                .feedback(PackedFeedback.decode(packed, game.getLength()))
+                .attempts(attempts)
+                .remainingAttempts(game.getMaxAttempts() - attempts)
+                .status(status)
+                .remainingCandidates(candidateIndex.count(game))
+                .answer(status == GuessResult.Status.IN_PROGRESS ? null : game.getAnswer())
+                .build();
+    }
+
+    /**
+     * @return the points a finished game is worth: one per unused attempt plus one for winning, zero for a loss
+     */
+    int scoreGame(@NotNull ActiveGame game, boolean won) {
+        return won ? game.getMaxAttempts() - game.getAttempts() + 1 : 0;
+    }
+
+    private void finishGame(String username, ActiveGame game, boolean won, boolean ranked) {
+        int points = ranked ? scoreGame(game, won) : 0;
+        statsRecorder.record(username, won, points);
+        if (ranked) {
+            leaderboardService.addPoints(username, points);
+        }
+        historyRecorder.record(username, game, won);
+        if (game.getDay() != null) {
+            dailyPuzzleService.recordResult(game.getDay(), game.getLength(), won, game.getAttempts());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.ltb.woordle.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.models.Hint;
+import com.ltb.woordle.solver.AnswerSpace;
+import com.ltb.woordle.solver.EntropyScorer;
+import com.ltb.woordle.utils.PackedFeedback;
+import jakarta.annotation.PreDestroy;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.ltb.woordle.utils.WordValidator.*;
+
+/**
+ * Suggests the next guess from a game's guesses and feedback so far.
+ * <p>
+ * Candidates are the words of the game's length consistent with every piece of feedback.
+ * Each allowed guess is scored by how evenly it splits those candidates into feedback patterns,
+ * in parallel on a dedicated fork-join pool. Hints for the opening and for every first-guess outcome
+ * are memoized, since every game starts from the same few positions.
+ * Lengths without a pattern matrix score every pair on the fly, so hints there are refused while more than
+ * hint.on-the-fly.max-pairs candidate and guess pairs would need scoring; a request never ties up the pool.
+ */
+@Service
+public class HintService {
+
+    private static final Logger log = LoggerFactory.getLogger(HintService.class);
+
+    // Histories up to this many guesses are memoized
+    private static final int MEMOIZED_DEPTH = 1;
+
+    private final LengthIndexedWordSet words;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final ConcurrentHashMap<Integer, AnswerSpace> spaces = new ConcurrentHashMap<>();
+
+    private final Cache<String, Hint> memoizedHints;
+
+    private final long maxOnTheFlyPairs;
+
+    @Value("${hint.matrix.max-entries:40000000}")
+    private long maxMatrixEntries;
+
+    @Value("${hint.precompute-lengths:}")
+    private List<Integer> precomputeLengths;
+
+    public HintService(LocalDictionaryProvider localProvider,
+                       @Value("${hint.memo.max-size:20000}") long memoMaxSize,
+                       @Value("${hint.on-the-fly.max-pairs:4000000}") long maxOnTheFlyPairs) {
+        this.words = localProvider.getWords();
+        this.memoizedHints = Caffeine.newBuilder().maximumSize(memoMaxSize).build();
+        this.maxOnTheFlyPairs = maxOnTheFlyPairs;
+    }
+
+    /**
+     * Builds answer spaces and opening hints for the configured lengths in the background,
+     * so the first players do not pay for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompute() {
+        for (Integer length : precomputeLengths) {
+            pool.execute(() -> {
+                long start = System.nanoTime();
+                getHint(length, List.of(), List.of());
+                log.info("Precomputed hints for length {} in {} ms", length, (System.nanoTime() - start) / 1_000_000);
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * @return the approximate number of memoized hints
+     */
+    public long getMemoSize() {
+        return memoizedHints.estimatedSize();
+    }
+
+    /**
+     * @return the number of scoring tasks queued on the hint pool
+     */
+    public long getQueuedTasks() {
+        return pool.getQueuedTaskCount();
+    }
+
+    /**
+     * Suggests the next guess for a game.
+     *
+     * @param length   the game's word length
+     * @param guesses  the guesses made so far, in order
+     * @param feedback the feedback for each guess, as 'C'/'P'/'A' Strings
+     * @return the suggested guess, how many answers remain possible, and the expected information of the guess
+     * @throws IllegalArgumentException if the inputs are inconsistent, no word matches the feedback, or too many
+     *                                  words are still possible to score without a pattern matrix
+     */
+    @NotNull
+    public Hint getHint(int length, @NotNull List<String> guesses, @NotNull List<String> feedback) {
+        if (length < 1 || length > PackedFeedback.MAX_LENGTH) {
+            throw new IllegalArgumentException("Word length must be between 1 and " + PackedFeedback.MAX_LENGTH);
+        }
+        if (guesses.size() != feedback.size()) {
+            throw new IllegalArgumentException("Every guess needs exactly one feedback entry.");
+        }
+
+        if (guesses.size() > MEMOIZED_DEPTH) {
+            return computeHint(length, guesses, feedback);
+        }
+
+        // Normalized, so "Crane" and "crane " share one entry
+        List<String> normalized = guesses.stream().map(guess -> normalizeWord(guess)).toList();
+        String key = length + ":" + String.join(",", normalized) + ":" + String.join(",", feedback).toUpperCase();
+        Hint memoized = memoizedHints.getIfPresent(key);
+        if (memoized != null) {
+            return memoized;
+        }
+        Hint hint = computeHint(length, normalized, feedback);
+        memoizedHints.put(key, hint);
+        return hint;
+    }
+
+    @NotNull
+    private Hint computeHint(int length, List<String> guesses, List<String> feedback) {
+        AnswerSpace space = spaces.computeIfAbsent(length,
+                l -> AnswerSpace.build(words, l, maxMatrixEntries, pool));
+
+        int[] candidates = filterCandidates(space, guesses, feedback);
+        if (candidates.length == 0) {
+            throw new IllegalArgumentException("No word of length " + length + " matches the feedback so far.");
+        }
+
+        // One or two left: guessing a candidate is as good as it gets
+        if (candidates.length <= 2) {
+            return Hint.builder()
+                    .guess(space.word(candidates[0]))
+                    .remainingCandidates(candidates.length)
+                    .expectedBits(candidates.length == 2 ? 1.0 : 0.0)
+                    .build();
+        }
+
+        boolean[] isCandidate = new boolean[space.size()];
+        for (int candidate : candidates) {
+            isCandidate[candidate] = true;
+        }
+
+        // Without a matrix every pattern is evaluated on the fly, so only candidates are scored as guesses
+        int[] allowedGuesses = space.hasMatrix() ? allIndexes(space.size()) : candidates;
+        if (!space.hasMatrix() && (long) candidates.length * candidates.length > maxOnTheFlyPairs) {
+            throw new IllegalArgumentException("Too many words of length " + length
+                    + " are still possible for a hint; make another guess first.");
+        }
+
+        EntropyScorer.Scored best = pool.invoke(new EntropyScorer(space, allowedGuesses, candidates, isCandidate));
+
+        return Hint.builder()
+                .guess(space.word(best.guess()))
+                .remainingCandidates(candidates.length)
+                .expectedBits(best.bits())
+                .build();
+    }
+
+    private int[] filterCandidates(AnswerSpace space, List<String> guesses, List<String> feedback) {
+        int[] candidates = allIndexes(space.size());
+        int remaining = candidates.length;
+
+        for (int g = 0; g < guesses.size(); g++) {
+            String guess = normalizeWord(guesses.get(g));
+            if (guess.length() != space.length() || !isValidAlphabeticWord(guess)) {
+                throw new IllegalArgumentException("Guess \"" + guess + "\" does not fit a game of length " + space.length());
+            }
+            if (feedback.get(g) == null || feedback.get(g).length() != space.length()) {
+                throw new IllegalArgumentException("Feedback for \"" + guess + "\" must have one entry per letter");
+            }
+            int expected = PackedFeedback.toPatternIndex(PackedFeedback.parse(feedback.get(g)), space.length());
+            int guessIndex = words.indexOf(guess);
+            byte[] guessBytes = guess.getBytes(StandardCharsets.US_ASCII);
+
+            // Compact the surviving candidates in place
+            int kept = 0;
+            for (int i = 0; i < remaining; i++) {
+                int answer = candidates[i];
+                int pattern = guessIndex >= 0 ? space.pattern(guessIndex, answer) : space.pattern(guessBytes, answer);
+                if (pattern == expected) {
+                    candidates[kept++] = answer;
+                }
+            }
+            remaining = kept;
+        }
+
+        return Arrays.copyOf(candidates, remaining);
+    }
+
+    private static int[] allIndexes(int size) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        return indexes;
+    }
+}
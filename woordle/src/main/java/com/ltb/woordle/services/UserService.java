@@ -1,5 +1,7 @@
 package com.ltb.woordle.services;
 
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.leaderboard.LeaderboardService;
 import com.ltb.woordle.models.User;
 import com.ltb.woordle.repositories.UserRepository;
 import org.springframework.beans.BeanUtils;
@@ -17,6 +19,15 @@ public class UserService {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    LeaderboardService leaderboardService;
+
+    @Autowired
+    WoordleUserDetailsService userDetailsService;
+
+    @Autowired
+    ReplicaLagGuard lagGuard;
+
     public User getUserById(Long id) {
         Optional<User> optional;
         if ((optional = userRepository.findById(id)).isEmpty()) {
@@ -36,20 +47,37 @@ public class UserService {
     }
 
     public User createNewUser(User newUser) {
-        newUser.setPassword(newUser.getPassword());
-        return userRepository.save(newUser);
+        newUser.setPassword(passwordEncoder.encode(newUser.getPassword()));
+        User saved = userRepository.save(newUser);
+        lagGuard.recordWrite(saved.getUsername());
+        leaderboardService.addPoints(saved.getUsername(), saved.getPoints());
+        return saved;
     }
 
     public User updateUser(User updatedUser) {
         User user = userRepository.findByUsername(updatedUser.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found."));
-        BeanUtils.copyProperties(updatedUser, user);
-        return userRepository.save(user);
+        int storedPoints = user.getPoints();
+        // Never overwrite the key, and never store a password without encoding it
+        BeanUtils.copyProperties(updatedUser, user, "id", "password");
+        if (updatedUser.getPassword() != null) {
+            user.setPassword(passwordEncoder.encode(updatedUser.getPassword()));
+        }
+        User saved = userRepository.save(user);
+        lagGuard.recordWrite(saved.getUsername());
+        userDetailsService.evict(saved.getUsername());
+        // Only the edit itself: the leaderboard already holds points that are not flushed to the database yet
+        leaderboardService.addPoints(saved.getUsername(), saved.getPoints() - storedPoints);
+        return saved;
     }
 
     public void deleteUser(Long id) {
-        if (userRepository.findById(id).isPresent()) {
+        Optional<User> user = userRepository.findById(id);
+        if (user.isPresent()) {
             userRepository.deleteById(id);
+            lagGuard.recordWrite(user.get().getUsername());
+            userDetailsService.evict(user.get().getUsername());
+            leaderboardService.removeUser(user.get().getUsername());
         } else {
             throw new RuntimeException("User not found.");
         }
@@ -0,0 +1,154 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import jakarta.annotation.PreDestroy;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind recorder for finished-game stats.
+ * <p>
+ * Results are folded into per-user deltas in memory and flushed periodically as batched
+ * {@code UPDATE users SET points = points + ? ...} statements, so finishing a game never waits on the database
+ * and a busy player costs one row update per flush instead of a read and a full-row write per game.
+ * Pending deltas are flushed on shutdown, and deltas from a failed flush are kept for the next one.
+ * Flushed users are reported to the {@link ReplicaLagGuard}, so their next reads see the new stats.
+ */
+@Component
+public class UserStatsRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatsRecorder.class);
+
+    private static final String UPDATE_STATS = "UPDATE users SET points = points + ?, " +
+            "games_won = games_won + ?, games_lost = games_lost + ? WHERE username = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReplicaLagGuard lagGuard;
+
+    private final WoordleMetrics metrics;
+
+    private final ConcurrentHashMap<String, StatsDelta> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    @Value("${stats.flush.batch-size:500}")
+    private int batchSize;
+
+    public UserStatsRecorder(JdbcTemplate jdbcTemplate, ReplicaLagGuard lagGuard, WoordleMetrics metrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lagGuard = lagGuard;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Points, wins and losses not yet written to the database for one user.
+     */
+    public record StatsDelta(int points, int gamesWon, int gamesLost) {
+
+        @NotNull
+        StatsDelta plus(@NotNull StatsDelta other) {
+            return new StatsDelta(points + other.points, gamesWon + other.gamesWon, gamesLost + other.gamesLost);
+        }
+    }
+
+    /**
+     * Records the result of a finished game. Returns immediately; the database is updated on the next flush.
+     *
+     * @param username the player
+     * @param won      whether the player won
+     * @param points   the points the game was worth
+     */
+    public void record(@NotNull String username, boolean won, int points) {
+        pending.merge(username, new StatsDelta(points, won ? 1 : 0, won ? 0 : 1), StatsDelta::plus);
+    }
+
+    /**
+     * @return the user's stats not yet flushed, or null if there are none
+     */
+    public StatsDelta getPending(@NotNull String username) {
+        return pending.get(username);
+    }
+
+    /**
+     * Writes every pending delta in JDBC batches.
+     */
+    @Scheduled(fixedDelayString = "${stats.flush.interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Take each delta atomically; results recorded meanwhile start a fresh delta for the next flush
+        List<Map.Entry<String, StatsDelta>> drained = new ArrayList<>(pending.size());
+        for (String username : pending.keySet()) {
+            StatsDelta delta = pending.remove(username);
+            if (delta != null) {
+                drained.add(Map.entry(username, delta));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Map.Entry<String, StatsDelta>> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            List<Object[]> arguments = new ArrayList<>(batch.size());
+            for (Map.Entry<String, StatsDelta> entry : batch) {
+                StatsDelta delta = entry.getValue();
+                arguments.add(new Object[]{delta.points(), delta.gamesWon(), delta.gamesLost(), entry.getKey()});
+            }
+
+            long start = System.nanoTime();
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_STATS, arguments);
+                metrics.recordFlush("users", start, true);
+                flushedRows.addAndGet(batch.size());
+                for (Map.Entry<String, StatsDelta> entry : batch) {
+                    lagGuard.recordWrite(entry.getKey());
+                }
+            } catch (DataAccessException e) {
+                metrics.recordFlush("users", start, false);
+                failedFlushes.incrementAndGet();
+                log.error("Failed to flush stats for {} users, will retry", batch.size(), e);
+                for (Map.Entry<String, StatsDelta> entry : batch) {
+                    pending.merge(entry.getKey(), entry.getValue(), StatsDelta::plus);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("Shutting down with unflushed stats for {} users", pending.size());
+        }
+    }
+
+    /**
+     * @return the number of users with unflushed stats
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getFlushedRows() {
+        return flushedRows.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ltb.woordle.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.repositories.UserRepository;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Loads registered players for form login.
+ * <p>
+ * Only the username and password hash are read, and they are kept in a bounded cache for a short time,
+ * so a burst of logins (e.g. at the daily puzzle rollover) does not turn into a burst of queries.
+ * {@link UserService} evicts a user whenever it changes or deletes them.
+ * Unknown usernames are never cached, so a newly registered player can log in straight away;
+ * the lookup is made on their behalf, so it reads from the primary while a replica may still lag behind.
+ */
+@Service
+public class WoordleUserDetailsService implements UserDetailsService {
+
+    private final UserRepository userRepository;
+
+    private final ReplicaLagGuard lagGuard;
+
+    private final Cache<String, Credentials> credentials;
+
+    public WoordleUserDetailsService(UserRepository userRepository, ReplicaLagGuard lagGuard,
+                                     @Value("${auth.cache.max-users:10000}") long maxUsers,
+                                     @Value("${auth.cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.lagGuard = lagGuard;
+        this.credentials = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        if (username == null || username.isEmpty()) {
+            throw new UsernameNotFoundException("User not found.");
+        }
+        // A null from the loader is not stored, so misses always go back to the database
+        Credentials found = credentials.get(username, this::loadCredentials);
+        if (found == null) {
+            throw new UsernameNotFoundException("User not found.");
+        }
+        // Build a fresh UserDetails every time: Spring Security erases the password on the one it is given
+        return User.withUsername(found.username())
+                .password(found.password())
+                .roles("USER")
+                .build();
+    }
+
+    /**
+     * Drops a user's cached credentials, so the next login reads them again.
+     *
+     * @param username the user whose credentials changed or who was deleted
+     */
+    public void evict(@NotNull String username) {
+        credentials.invalidate(username);
+    }
+
+    /**
+     * @return the approximate number of cached users
+     */
+    public long estimatedSize() {
+        return credentials.estimatedSize();
+    }
+
+    /**
+     * @return hit, miss and eviction counts of the credential cache
+     */
+    public CacheStats stats() {
+        return credentials.stats();
+    }
+
+    private Credentials loadCredentials(String username) {
+        return lagGuard.readAs(username, () -> userRepository.findCredentialsByUsername(username))
+                .map(user -> new Credentials(user.getUsername(), user.getPassword()))
+                .orElse(null);
+    }
+
+    private record Credentials(String username, String password) {
+    }
+}
@@ -1,6 +1,12 @@
 package com.ltb.woordle.services;
 
 import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.ltb.woordle.metrics.WoordleMetrics.Outcome;
+import com.ltb.woordle.metrics.WoordleMetrics.ValidationFailure;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.utils.Alphabet;
+import com.ltb.woordle.utils.PackedFeedback;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +14,7 @@ import org.springframework.stereotype.Service;
 import static com.ltb.woordle.utils.WordValidator.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class WordService {
@@ -15,6 +22,9 @@ public class WordService {
     @Autowired
     DictionaryService dictionaryService;
 
+    @Autowired
+    WoordleMetrics metrics;
+
     private static final char CORRECT = 'C';
     private static final char ABSENT = 'A';
     private static final char PRESENT = 'P';
@@ -37,33 +47,176 @@ public class WordService {
                     "cannot be null or empty when handling guess.");
         }
 
+        long start = System.nanoTime();
         String normalizedGuess = normalizeWord(concatenateGuess(characters));
         String normalizedAnswer = normalizeWord(answer);
-        List<Character> feedback = new ArrayList<>();
+        List<Character> feedback;
 
         // If the guessed word is valid, check it against the answer
         try {
-            if (isValidAlphabeticWord(normalizedGuess) && dictionaryService.isValidDictionaryWord(normalizedGuess)) {
-                // If the guess is exactly correct, return all 'C's
-                if (isCorrectWord(normalizedGuess, normalizedAnswer)) {
-                    for (int i = 0; i < normalizedGuess.length(); i++) {
-                        feedback.add('C');
-                    }
-                // Else, check letters for presence and position
-                } else {
-                    feedback = checkLetters(normalizedGuess, normalizedAnswer);
-                }
+            if (isValidFormat(normalizedGuess) && isValidDictionaryWord(normalizedGuess)) {
+                feedback = feedbackFor(normalizedGuess, normalizedAnswer);
             } else {
                 throw new IllegalArgumentException("Could not validate guess \"" + normalizedGuess + "\"");
             }
         } catch (IllegalArgumentException e) {
+            metrics.recordGuess(start, Outcome.NOT_FOUND);
             throw new DictionaryServiceException("Could not validate guess \"" + normalizedGuess + "\"", e);
+        } catch (RuntimeException e) {
+            metrics.recordGuess(start, Outcome.ERROR);
+            throw e;
         }
 
+        metrics.recordGuess(start, Outcome.FOUND);
         return feedback;
 
     }
 
+    /**
+     * Non-blocking counterpart of {@link #handleGuess(List, String)}.
+     * The dictionary lookup, if the word is not known locally, runs on the async dictionary client,
+     * so the calling request thread is free while it is outstanding.
+     *
+     * @param characters List of Characters representing the player's guess.
+     * @param answer     The correct answer word.
+     * @return A future completing with the same feedback handleGuess returns, or exceptionally with a
+     * DictionaryServiceException if the guess cannot be validated.
+     * @throws IllegalArgumentException if input is null or empty.
+     */
+    @NotNull
+    public CompletableFuture<List<Character>> handleGuessAsync(List<Character> characters, String answer) {
+
+        if (characters == null || characters.isEmpty() || answer == null || answer.isEmpty()) {
+            throw new IllegalArgumentException("Guessed characters and stored answer " +
+                    "cannot be null or empty when handling guess.");
+        }
+
+        long start = System.nanoTime();
+        String normalizedGuess = normalizeWord(concatenateGuess(characters));
+        String normalizedAnswer = normalizeWord(answer);
+
+        if (!isValidFormat(normalizedGuess)) {
+            metrics.recordGuess(start, Outcome.NOT_FOUND);
+            return CompletableFuture.failedFuture(
+                    new DictionaryServiceException("Could not validate guess \"" + normalizedGuess + "\""));
+        }
+
+        return dictionaryService.isValidDictionaryWordAsync(normalizedGuess).thenApply(valid -> {
+            try {
+                if (!valid) {
+                    metrics.validationFailed(ValidationFailure.DICTIONARY);
+                    throw new IllegalArgumentException("Could not validate guess \"" + normalizedGuess + "\"");
+                }
+                return feedbackFor(normalizedGuess, normalizedAnswer);
+            } catch (IllegalArgumentException e) {
+                throw new DictionaryServiceException("Could not validate guess \"" + normalizedGuess + "\"", e);
+            }
+        }).whenComplete((feedback, failure) -> metrics.recordGuess(start,
+                failure == null ? Outcome.FOUND
+                        : failure.getCause() instanceof DictionaryServiceException ? Outcome.NOT_FOUND : Outcome.ERROR));
+
+    }
+
+    /**
+     * Allocation-free counterpart of {@link #handleGuess(List, String)} for hot paths.
+     * Validates the guess against the dictionary, then returns feedback packed 2 bits per position,
+     * as described in {@link PackedFeedback}. Use {@link PackedFeedback#decode(int, int)} to turn it
+     * back into 'C'/'P'/'A' characters.
+     *
+     * @param guess  the player's guess, already normalized to lowercase a-z
+     * @param answer the correct answer word, lowercase a-z
+     * @return the packed feedback
+     * @throws DictionaryServiceException if the guess is not alphabetic, or not a valid dictionary word of the answer's length
+     */
+    public int handleGuessPacked(CharSequence guess, CharSequence answer) {
+
+        if (guess == null || guess.isEmpty() || answer == null || answer.isEmpty()) {
+            throw new IllegalArgumentException("Guess and stored answer " +
+                    "cannot be null or empty when handling guess.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (guess.length() != answer.length()) {
+                metrics.validationFailed(ValidationFailure.LENGTH);
+            } else if (!isValidAlphabeticWord(guess)) {
+                // Never let a malformed guess reach the dictionary, where it would cost an API call
+                metrics.validationFailed(ValidationFailure.FORMAT);
+            } else if (isValidDictionaryWord(guess)) {
+                int packed = PackedFeedback.evaluate(guess, answer);
+                metrics.recordGuess(start, Outcome.FOUND);
+                return packed;
+            }
+            throw new IllegalArgumentException("Could not validate guess \"" + guess + "\"");
+        } catch (IllegalArgumentException e) {
+            metrics.recordGuess(start, Outcome.NOT_FOUND);
+            throw new DictionaryServiceException("Could not validate guess \"" + guess + "\"", e);
+        } catch (RuntimeException e) {
+            metrics.recordGuess(start, Outcome.ERROR);
+            throw e;
+        }
+    }
+
+    /**
+     * Rejects a guess that is the wrong length for the game or is not spelled with letters only.
+     * Runs before hard mode and dictionary checks, so a malformed guess never costs an API call.
+     *
+     * @param game  the game being played
+     * @param guess the player's guess, already normalized
+     * @throws DictionaryServiceException if the guess is malformed
+     */
+    public void checkFormat(@NotNull ActiveGame game, @NotNull String guess) {
+        long start = System.nanoTime();
+        if (guess.length() != game.getLength()) {
+            metrics.validationFailed(ValidationFailure.LENGTH);
+        } else if (!isValidAlphabeticWord(guess)) {
+            metrics.validationFailed(ValidationFailure.FORMAT);
+        } else {
+            return;
+        }
+        metrics.recordGuess(start, Outcome.NOT_FOUND);
+        throw new DictionaryServiceException("Could not validate guess \"" + guess + "\"");
+    }
+
+    /**
+     * Rejects a guess that ignores a hint revealed earlier in a hard mode game: correct letters must stay
+     * in place and present letters must be reused, with duplicates counted as in checkLetters.
+     * Runs before the dictionary lookup, so a hard mode violation never costs an API call.
+     * Guesses of the wrong length or format are skipped here; they are rejected by {@link #checkFormat(ActiveGame, String)}.
+     *
+     * @param game  the game being played; nothing is checked unless it is in hard mode
+     * @param guess the player's guess, already normalized
+     * @throws IllegalArgumentException if the guess breaks a hard mode constraint
+     */
+    public void checkHardMode(@NotNull ActiveGame game, @NotNull String guess) {
+        if (!game.isHardMode() || guess.length() != game.getLength() || !isValidAlphabeticWord(guess)) {
+            return;
+        }
+        String violation = game.checkHardMode(guess);
+        if (violation != null) {
+            metrics.validationFailed(ValidationFailure.HARD_MODE);
+            throw new IllegalArgumentException(violation);
+        }
+    }
+
+    // Dictionary check that counts rejections
+    private boolean isValidDictionaryWord(CharSequence guess) {
+        if (dictionaryService.isValidDictionaryWord(guess)) {
+            return true;
+        }
+        metrics.validationFailed(ValidationFailure.DICTIONARY);
+        return false;
+    }
+
+    // Format check that counts rejections
+    private boolean isValidFormat(String guess) {
+        if (isValidAlphabeticWord(guess)) {
+            return true;
+        }
+        metrics.validationFailed(ValidationFailure.FORMAT);
+        return false;
+    }
+
     @Contract("null -> fail")
     @NotNull
     private String concatenateGuess(List<Character> characters) {
@@ -79,6 +232,20 @@ public class WordService {
         return guess.toString();
     }
 
+    @NotNull
+    private List<Character> feedbackFor(String normalizedGuess, String normalizedAnswer) {
+        // If the guess is exactly correct, return all 'C's
+        if (isCorrectWord(normalizedGuess, normalizedAnswer)) {
+            List<Character> feedback = new ArrayList<>();
+            for (int i = 0; i < normalizedGuess.length(); i++) {
+                feedback.add('C');
+            }
+            return feedback;
+        }
+        // Else, check letters for presence and position
+        return checkLetters(normalizedGuess, normalizedAnswer, Alphabet.ENGLISH);
+    }
+
     @Contract("null, _ -> fail; !null, null -> fail")
     private boolean isCorrectWord(String guess, String answer) {
 
@@ -99,13 +266,16 @@ public class WordService {
      * <p> 4. Second pass: For non-exact matches, check if letter exists in remaining pool
      * <p> 5. If yes, mark as PRESENT and decrement count. If no, make ABSENT explicit.
      *
-     * @param guess  the guessed word
-     * @param answer the stored answer word
+     * Letters are counted in an array indexed by the alphabet's dense letter indexes, so any language costs the same.
+     *
+     * @param guess    the guessed word
+     * @param answer   the stored answer word
+     * @param alphabet the alphabet both words are spelled in
      * @return a List of Characters representing feedback for each letter in the guess
      */
-    @Contract("null, _ -> fail; !null, null -> fail")
+    @Contract("null, _, _ -> fail; !null, null, _ -> fail")
     @NotNull
-    private List<Character> checkLetters(String guess, String answer) {
+    private List<Character> checkLetters(String guess, String answer, Alphabet alphabet) {
         if (guess == null || answer == null || guess.length() != answer.length()) {
             throw new IllegalArgumentException("Guess and answer must be non-null and same length");
         }
@@ -119,7 +289,7 @@ public class WordService {
         }
 
         // Track how many of each letter are available in the answer
-        int[] availableLetters = new int[26];
+        int[] availableLetters = new int[alphabet.size()];
 
         // First pass: Mark correct positions
         for (int i = 0; i < length; i++) {
@@ -127,7 +297,7 @@ public class WordService {
                 feedback.set(i, CORRECT);
             } else {
                 // This letter in the answer is available for yellow matches
-                availableLetters[answer.charAt(i) - 'a']++;
+                availableLetters[alphabet.indexOf(answer.charAt(i))]++;
             }
         }
 
@@ -138,8 +308,7 @@ public class WordService {
                 continue;
             }
 
-            char guessLetter = guess.charAt(i);
-            int letterIndex = guessLetter - 'a';
+            int letterIndex = alphabet.indexOf(guess.charAt(i));
 
             // If the letter exists in the available pool, mark as PRESENT
             if (availableLetters[letterIndex] > 0) {
@@ -0,0 +1,118 @@
+package com.ltb.woordle.solver;
+
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * All words of one length, as ASCII bytes, with an optional precomputed guess x answer feedback matrix.
+ * <p>
+ * The matrix stores the base-3 feedback pattern of every (guess, answer) pair as one unsigned byte,
+ * so it is only built for words of up to {@link #MAX_MATRIX_LENGTH} letters (3^5 = 243 patterns)
+ * and when the word count squared fits the configured budget. Without it, patterns are evaluated on demand.
+ * Instances are immutable and shared across threads.
+ */
+public final class AnswerSpace {
+
+    public static final int MAX_MATRIX_LENGTH = 5;
+
+    private final int length;
+    private final byte[][] words;
+    private final byte[] matrix;
+
+    private AnswerSpace(int length, byte[][] words, byte[] matrix) {
+        this.length = length;
+        this.words = words;
+        this.matrix = matrix;
+    }
+
+    /**
+     * Builds the answer space for one length, computing the feedback matrix rows in parallel.
+     *
+     * @param wordSet          the active word list
+     * @param length           the word length
+     * @param maxMatrixEntries the largest matrix (in entries, one byte each) that may be built
+     * @param pool             the pool to build the matrix in
+     * @return the answer space
+     * @throws IllegalArgumentException if there are no words of that length
+     */
+    @NotNull
+    public static AnswerSpace build(@NotNull LengthIndexedWordSet wordSet, int length, long maxMatrixEntries,
+                                    @NotNull ForkJoinPool pool) {
+        int size = wordSet.size(length);
+        if (size == 0) {
+            throw new IllegalArgumentException("No words of length " + length + " available");
+        }
+
+        byte[][] words = new byte[size][length];
+        for (int index = 0; index < size; index++) {
+            for (int position = 0; position < length; position++) {
+                words[index][position] = (byte) wordSet.letterAt(length, index, position);
+            }
+        }
+
+        byte[] matrix = null;
+        if (length <= MAX_MATRIX_LENGTH && (long) size * size <= Math.min(maxMatrixEntries, Integer.MAX_VALUE)) {
+            byte[] rows = new byte[size * size];
+            pool.submit(() -> IntStream.range(0, size).parallel().forEach(guess -> {
+                int row = guess * size;
+                for (int answer = 0; answer < size; answer++) {
+                    rows[row + answer] = (byte) PackedFeedback.toPatternIndex(
+                            PackedFeedback.evaluate(words[guess], words[answer]), length);
+                }
+            })).join();
+            matrix = rows;
+        }
+
+        return new AnswerSpace(length, words, matrix);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public boolean hasMatrix() {
+        return matrix != null;
+    }
+
+    /**
+     * @return the number of distinct feedback patterns for this length, 3^length
+     */
+    public int patternCount() {
+        int count = 1;
+        for (int i = 0; i < length; i++) {
+            count *= 3;
+        }
+        return count;
+    }
+
+    @NotNull
+    public String word(int index) {
+        return new String(words[index], StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return the base-3 feedback pattern of guessing word {@code guess} when the answer is word {@code answer}
+     */
+    public int pattern(int guess, int answer) {
+        if (matrix != null) {
+            return matrix[guess * words.length + answer] & 0xff;
+        }
+        return PackedFeedback.toPatternIndex(PackedFeedback.evaluate(words[guess], words[answer]), length);
+    }
+
+    /**
+     * @return the base-3 feedback pattern of an arbitrary guess against word {@code answer}
+     */
+    public int pattern(byte[] guess, int answer) {
+        return PackedFeedback.toPatternIndex(PackedFeedback.evaluate(guess, words[answer]), length);
+    }
+}
@@ -0,0 +1,265 @@
+package com.ltb.woordle.solver;
+
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.utils.Alphabet;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Bitmap index over the local word list, for counting how many words are still possible after some feedback.
+ * <p>
+ * For every length there is one bitset per (position, letter), with bit i set if word i of that length has the
+ * letter there, and one per (letter, n) with bit i set if word i contains the letter at least n times.
+ * Feedback maps onto these without touching the words themselves, following the duplicate-letter rules of
+ * WordService.checkLetters (see {@link PackedFeedback}):
+ * <ul>
+ *     <li>CORRECT keeps words with the letter at that position; PRESENT and ABSENT drop them;</li>
+ *     <li>a letter marked CORRECT or PRESENT n times keeps words with at least n copies;</li>
+ *     <li>if one of its copies was also ABSENT, words with n + 1 copies or more are dropped.</li>
+ * </ul>
+ * Counting is then a few dozen bitset intersections and a popcount, instead of evaluating every word.
+ * Letters are numbered by the word list's {@link Alphabet}, so one index serves a single language.
+ * Empty bitsets are stored as null. Built once at startup and shared read-only across threads.
+ */
+@Component
+public class CandidateIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CandidateIndex.class);
+
+    private static final int MIN_LENGTH = LengthIndexedWordSet.MIN_LENGTH;
+    private static final int MAX_LENGTH = LengthIndexedWordSet.MAX_LENGTH;
+
+    private final Alphabet alphabet;
+    private final int alphabetSize;
+
+    // Indexed by length, then position * alphabetSize + letter
+    private final long[][][] atPosition = new long[MAX_LENGTH + 1][][];
+    // Indexed by length, then letter * (length + 1) + count; count 0 is unused
+    private final long[][][] atLeast = new long[MAX_LENGTH + 1][][];
+    private final int[] sizes = new int[MAX_LENGTH + 1];
+
+    /**
+     * Per-thread working bitset, sized for the largest length, reused across counts.
+     */
+    private final ThreadLocal<long[]> scratch;
+
+    public CandidateIndex(LocalDictionaryProvider localProvider) {
+        long start = System.nanoTime();
+        this.alphabet = localProvider.getAlphabet();
+        this.alphabetSize = alphabet.size();
+        LengthIndexedWordSet words = localProvider.getWords();
+        int maxWords = 0;
+        long bytes = 0;
+
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            int size = words.size(length);
+            sizes[length] = size;
+            atPosition[length] = new long[length * alphabetSize][];
+            atLeast[length] = new long[alphabetSize * (length + 1)][];
+            maxWords = Math.max(maxWords, size);
+            bytes += index(words, length);
+        }
+
+        int wordsPerBitset = words(maxWords);
+        this.scratch = ThreadLocal.withInitial(() -> new long[wordsPerBitset]);
+        log.info("Built {} candidate index over {} words ({} KiB) in {} ms",
+                alphabet.getCode(), words.size(), bytes / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Counts the dictionary words still consistent with every guess of a game so far.
+     *
+     * @param game the game
+     * @return the number of words of the game's length matching all of its feedback
+     */
+    public int count(@NotNull ActiveGame game) {
+        int attempts = game.getAttempts();
+        CharSequence[] guesses = new CharSequence[attempts];
+        int[] packed = new int[attempts];
+        for (int i = 0; i < attempts; i++) {
+            guesses[i] = game.getGuess(i);
+            packed[i] = game.getFeedback(i);
+        }
+        return count(game.getLength(), guesses, packed);
+    }
+
+    /**
+     * Counts the dictionary words consistent with every guess and its feedback.
+     *
+     * @param length  the word length
+     * @param guesses the guesses, in lowercase letters of the index's alphabet, of that length
+     * @param packed  the packed feedback of each guess
+     * @return the number of words of that length matching all of the feedback
+     * @throws IllegalArgumentException if the arrays differ in size, or a guess has the wrong length or letters
+     */
+    public int count(int length, @NotNull CharSequence[] guesses, @NotNull int[] packed) {
+        if (guesses.length != packed.length) {
+            throw new IllegalArgumentException("Every guess needs exactly one feedback entry.");
+        }
+        int size = (length < MIN_LENGTH || length > MAX_LENGTH) ? 0 : sizes[length];
+        if (size == 0) {
+            return 0;
+        }
+
+        long[] candidates = scratch.get();
+        int words = words(size);
+        Arrays.fill(candidates, 0, words, -1L);
+        // Clear the bits past the last word so they are never counted
+        if ((size & 63) != 0) {
+            candidates[words - 1] = -1L >>> (64 - (size & 63));
+        }
+
+        for (int g = 0; g < guesses.length; g++) {
+            if (!narrow(candidates, words, length, guesses[g], packed[g])) {
+                return 0;
+            }
+        }
+
+        int count = 0;
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(candidates[i]);
+        }
+        return count;
+    }
+
+    /**
+     * @param length the word length
+     * @return the number of indexed words of that length
+     */
+    public int size(int length) {
+        return (length < MIN_LENGTH || length > MAX_LENGTH) ? 0 : sizes[length];
+    }
+
+    // Applies one guess's feedback; returns false once nothing is left
+    private boolean narrow(long[] candidates, int words, int length, CharSequence guess, int packed) {
+        if (guess.length() != length) {
+            throw new IllegalArgumentException("Guess \"" + guess + "\" does not fit a game of length " + length);
+        }
+        long[][] positions = atPosition[length];
+        long[][] counts = atLeast[length];
+
+        for (int i = 0; i < length; i++) {
+            int letter = letterIndex(guess.charAt(i));
+            long[] bits = positions[i * alphabetSize + letter];
+            if (PackedFeedback.get(packed, i) == PackedFeedback.CORRECT) {
+                if (bits == null) {
+                    return false;
+                }
+                and(candidates, bits, words);
+            } else if (bits != null) {
+                andNot(candidates, bits, words);
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            char letter = guess.charAt(i);
+            if (seenBefore(guess, i)) {
+                continue;
+            }
+            // Tally this letter's copies in the guess; at most 15, so rescanning beats allocating
+            int marked = 0;
+            boolean absent = false;
+            for (int j = i; j < length; j++) {
+                if (guess.charAt(j) == letter) {
+                    if (PackedFeedback.get(packed, j) == PackedFeedback.ABSENT) {
+                        absent = true;
+                    } else {
+                        marked++;
+                    }
+                }
+            }
+
+            int base = alphabet.indexOf(letter) * (length + 1);
+            if (marked > 0) {
+                long[] bits = counts[base + marked];
+                if (bits == null) {
+                    return false;
+                }
+                and(candidates, bits, words);
+            }
+            if (absent && marked + 1 <= length && counts[base + marked + 1] != null) {
+                andNot(candidates, counts[base + marked + 1], words);
+            }
+        }
+        return true;
+    }
+
+    // Builds the bitsets for one length and returns their size in bytes
+    private long index(LengthIndexedWordSet words, int length) {
+        int size = sizes[length];
+        if (size == 0) {
+            return 0;
+        }
+        long[][] positions = atPosition[length];
+        long[][] counts = atLeast[length];
+        int bitsetWords = words(size);
+        int[] letterCounts = new int[alphabetSize];
+        long bytes = 0;
+
+        for (int index = 0; index < size; index++) {
+            int word = index >>> 6;
+            long bit = 1L << index;
+            Arrays.fill(letterCounts, 0);
+
+            for (int position = 0; position < length; position++) {
+                int letter = alphabet.indexOf(words.letterAt(length, index, position));
+                int slot = position * alphabetSize + letter;
+                if (positions[slot] == null) {
+                    positions[slot] = new long[bitsetWords];
+                    bytes += bitsetWords * 8L;
+                }
+                positions[slot][word] |= bit;
+
+                int slotCount = letter * (length + 1) + ++letterCounts[letter];
+                if (counts[slotCount] == null) {
+                    counts[slotCount] = new long[bitsetWords];
+                    bytes += bitsetWords * 8L;
+                }
+                counts[slotCount][word] |= bit;
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean seenBefore(CharSequence guess, int position) {
+        char letter = guess.charAt(position);
+        for (int j = 0; j < position; j++) {
+            if (guess.charAt(j) == letter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void and(long[] target, long[] bits, int words) {
+        for (int i = 0; i < words; i++) {
+            target[i] &= bits[i];
+        }
+    }
+
+    private static void andNot(long[] target, long[] bits, int words) {
+        for (int i = 0; i < words; i++) {
+            target[i] &= ~bits[i];
+        }
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private int letterIndex(char letter) {
+        int index = alphabet.indexOf(letter);
+        if (index < 0) {
+            throw new IllegalArgumentException("Only lowercase letters of the " + alphabet.getCode()
+                    + " alphabet can be counted, got '" + letter + "'");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ltb.woordle.solver;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task that finds the guess splitting the remaining candidates into the most even feedback buckets,
+ * i.e. the guess with the highest expected information (Shannon entropy, in bits).
+ * <p>
+ * The guess range is split in halves until it is small enough to score sequentially.
+ * Ties go to guesses that could themselves be the answer, then to the lowest index.
+ */
+public final class EntropyScorer extends RecursiveTask<EntropyScorer.Scored> {
+
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+
+    private final AnswerSpace space;
+    private final int[] guesses;
+    private final int[] candidates;
+    private final boolean[] isCandidate;
+    private final int from;
+    private final int to;
+
+    /**
+     * @param space       the answer space the indexes refer to
+     * @param guesses     indexes of the words allowed as guesses
+     * @param candidates  indexes of the words that could still be the answer
+     * @param isCandidate lookup table over all word indexes, true for candidates
+     */
+    public EntropyScorer(AnswerSpace space, int[] guesses, int[] candidates, boolean[] isCandidate) {
+        this(space, guesses, candidates, isCandidate, 0, guesses.length);
+    }
+
+    private EntropyScorer(AnswerSpace space, int[] guesses, int[] candidates, boolean[] isCandidate, int from, int to) {
+        this.space = space;
+        this.guesses = guesses;
+        this.candidates = candidates;
+        this.isCandidate = isCandidate;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * A guess index and its expected information in bits.
+     */
+    public record Scored(int guess, double bits, boolean candidate) {
+
+        boolean beats(@NotNull Scored other) {
+            if (bits != other.bits) {
+                return bits > other.bits;
+            }
+            if (candidate != other.candidate) {
+                return candidate;
+            }
+            return guess < other.guess;
+        }
+    }
+
+    @Override
+    protected Scored compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            return scoreRange();
+        }
+
+        int middle = (from + to) >>> 1;
+        EntropyScorer left = new EntropyScorer(space, guesses, candidates, isCandidate, from, middle);
+        EntropyScorer right = new EntropyScorer(space, guesses, candidates, isCandidate, middle, to);
+        left.fork();
+        Scored rightBest = right.compute();
+        Scored leftBest = left.join();
+
+        if (leftBest == null) {
+            return rightBest;
+        }
+        if (rightBest == null) {
+            return leftBest;
+        }
+        return leftBest.beats(rightBest) ? leftBest : rightBest;
+    }
+
+    private Scored scoreRange() {
+        Scored best = null;
+        double total = candidates.length;
+
+        // With a matrix, count buckets in a small array indexed by pattern; otherwise sort the patterns
+        int[] buckets = space.hasMatrix() ? new int[space.patternCount()] : new int[candidates.length];
+
+        for (int i = from; i < to; i++) {
+            int guess = guesses[i];
+            double sumCountLogCount = space.hasMatrix()
+                    ? bucketByCount(guess, buckets)
+                    : bucketBySort(guess, buckets);
+
+            // H = log2(n) - (1/n) * sum(c * log2(c))
+            double bits = (Math.log(total) - sumCountLogCount / total) / Math.log(2);
+            Scored scored = new Scored(guess, bits, isCandidate[guess]);
+
+            if (best == null || scored.beats(best)) {
+                best = scored;
+            }
+        }
+
+        return best;
+    }
+
+    private double bucketByCount(int guess, int[] counts) {
+        for (int answer : candidates) {
+            counts[space.pattern(guess, answer)]++;
+        }
+
+        double sum = 0;
+        for (int answer : candidates) {
+            int pattern = space.pattern(guess, answer);
+            int count = counts[pattern];
+            if (count > 0) {
+                sum += count * Math.log(count);
+                // Reset as we go so the array is clean for the next guess
+                counts[pattern] = 0;
+            }
+        }
+        return sum;
+    }
+
+    private double bucketBySort(int guess, int[] patterns) {
+        for (int i = 0; i < candidates.length; i++) {
+            patterns[i] = space.pattern(guess, candidates[i]);
+        }
+        Arrays.sort(patterns);
+
+        double sum = 0;
+        int run = 1;
+        for (int i = 1; i <= patterns.length; i++) {
+            if (i < patterns.length && patterns[i] == patterns[i - 1]) {
+                run++;
+            } else {
+                sum += run * Math.log(run);
+                run = 1;
+            }
+        }
+        return sum;
+    }
+}
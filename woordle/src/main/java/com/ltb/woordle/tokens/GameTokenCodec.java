@@ -0,0 +1,220 @@
+package com.ltb.woordle.tokens;
+
+import com.ltb.woordle.models.ActiveGame;
+import org.jetbrains.annotations.NotNull;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Turns an in-progress game into an opaque token and back, so no node has to hold it.
+ * <p>
+ * The payload (game id, issue time, length, attempts, flags, answer, then each guess and its packed feedback)
+ * is encrypted with AES-CTR under a fresh random IV, then the version, IV and ciphertext are signed with
+ * HMAC-SHA256 (encrypt-then-MAC), the tag truncated to 128 bits. The username is signed along with them,
+ * so a token only works for the player it was issued to. Both keys are derived from one shared secret,
+ * which every node must be configured with.
+ * <p>
+ * Ciphers and MACs are kept per thread, so encoding or decoding costs a few microseconds and no provider lookups.
+ */
+public final class GameTokenCodec {
+
+    /**
+     * A decoded token.
+     *
+     * @param gameId   random id of the game, the same in every token of that game
+     * @param issuedAt when the token was issued, in epoch seconds
+     * @param game     the game, with every guess so far replayed into it
+     */
+    public record GameToken(long gameId, long issuedAt, @NotNull ActiveGame game) {
+    }
+
+    private static final byte VERSION = 1;
+    private static final int IV_BYTES = 16;
+    // Game id, issue time, length, max attempts, attempts and flags
+    private static final int PAYLOAD_HEADER_BYTES = 20;
+    private static final int TAG_BYTES = 16;
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final int FLAG_HARD_MODE = 1;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec encryptionKey;
+    private final ThreadLocal<Cipher> ciphers;
+    private final ThreadLocal<Mac> macs;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * @param secret the shared secret, at least 32 bytes
+     * @throws IllegalArgumentException if the secret is too short
+     */
+    public GameTokenCodec(@NotNull byte[] secret) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("Game token secret must be at least " + MIN_SECRET_BYTES + " bytes.");
+        }
+        // Separate keys for encryption and signing, derived from the one secret
+        this.encryptionKey = new SecretKeySpec(Arrays.copyOf(hmac(secret, "woordle-token-enc"), 16), "AES");
+        SecretKeySpec macKey = new SecretKeySpec(hmac(secret, "woordle-token-mac"), "HmacSHA256");
+
+        this.ciphers = ThreadLocal.withInitial(() -> {
+            try {
+                return Cipher.getInstance("AES/CTR/NoPadding");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("AES/CTR is not available", e);
+            }
+        });
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(macKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    /**
+     * Encodes a game into a token bound to its player.
+     *
+     * @param username the player
+     * @param gameId   the game's id
+     * @param issuedAt the issue time, in epoch seconds
+     * @param game     the game
+     * @return the URL-safe token
+     */
+    @NotNull
+    public String encode(@NotNull String username, long gameId, long issuedAt, @NotNull ActiveGame game) {
+        int length = game.getLength();
+        int attempts = game.getAttempts();
+        ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_HEADER_BYTES + length + attempts * (length + 4));
+        payload.putLong(gameId)
+                .putLong(issuedAt)
+                .put((byte) length)
+                .put((byte) game.getMaxAttempts())
+                .put((byte) attempts)
+                .put((byte) (game.isHardMode() ? FLAG_HARD_MODE : 0));
+        putLetters(payload, game.getAnswer());
+        for (int i = 0; i < attempts; i++) {
+            putLetters(payload, game.getGuess(i));
+            payload.putInt(game.getFeedback(i));
+        }
+
+        byte[] token = new byte[1 + IV_BYTES + payload.capacity() + TAG_BYTES];
+        token[0] = VERSION;
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        System.arraycopy(iv, 0, token, 1, IV_BYTES);
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new IvParameterSpec(token, 1, IV_BYTES));
+            cipher.doFinal(payload.array(), 0, payload.capacity(), token, 1 + IV_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt game token", e);
+        }
+        System.arraycopy(sign(username, token, token.length - TAG_BYTES), 0, token, token.length - TAG_BYTES, TAG_BYTES);
+        return ENCODER.encodeToString(token);
+    }
+
+    /**
+     * Verifies and decodes a token.
+     *
+     * @param username the player presenting the token
+     * @param token    the token
+     * @return the decoded game
+     * @throws IllegalArgumentException if the token is malformed, was tampered with, or belongs to another player
+     */
+    @NotNull
+    public GameToken decode(@NotNull String username, @NotNull String token) {
+        byte[] raw;
+        try {
+            raw = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (raw.length < 1 + IV_BYTES + PAYLOAD_HEADER_BYTES + 1 + TAG_BYTES || raw[0] != VERSION) {
+            throw invalid();
+        }
+        byte[] expected = sign(username, raw, raw.length - TAG_BYTES);
+        // Constant-time comparison of the truncated tag
+        if (!MessageDigest.isEqual(Arrays.copyOf(expected, TAG_BYTES),
+                Arrays.copyOfRange(raw, raw.length - TAG_BYTES, raw.length))) {
+            throw invalid();
+        }
+
+        byte[] plain;
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new IvParameterSpec(raw, 1, IV_BYTES));
+            plain = cipher.doFinal(raw, 1 + IV_BYTES, raw.length - 1 - IV_BYTES - TAG_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decrypt game token", e);
+        }
+
+        ByteBuffer payload = ByteBuffer.wrap(plain);
+        long gameId = payload.getLong();
+        long issuedAt = payload.getLong();
+        int length = payload.get();
+        int maxAttempts = payload.get() & 0xff;
+        int attempts = payload.get();
+        boolean hardMode = (payload.get() & FLAG_HARD_MODE) != 0;
+        // Signed by us, so a size mismatch means a bug or a key reused elsewhere, not an attacker
+        if (payload.remaining() != length + attempts * (length + 4)) {
+            throw invalid();
+        }
+
+        ActiveGame game = new ActiveGame(getLetters(payload, length), maxAttempts, null, hardMode);
+        for (int i = 0; i < attempts; i++) {
+            String guess = getLetters(payload, length);
+            game.recordGuess(guess, payload.getInt());
+        }
+        return new GameToken(gameId, issuedAt, game);
+    }
+
+    private byte[] sign(String username, byte[] token, int length) {
+        Mac mac = macs.get();
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        // Separates the username from the token, so "ab" + "c..." never signs like "a" + "bc..."
+        mac.update((byte) 0);
+        mac.update(token, 0, length);
+        return mac.doFinal();
+    }
+
+    private static byte[] hmac(byte[] key, String label) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(label.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static void putLetters(ByteBuffer buffer, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            buffer.put((byte) word.charAt(i));
+        }
+    }
+
+    private static String getLetters(ByteBuffer buffer, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) buffer.get();
+        }
+        return new String(letters);
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Invalid game token.");
+    }
+}
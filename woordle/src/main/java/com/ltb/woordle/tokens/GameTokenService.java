@@ -0,0 +1,137 @@
+package com.ltb.woordle.tokens;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.services.GameService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Plays free games whose state travels with the client as a {@link GameTokenCodec} token instead of living
+ * in the {@link com.ltb.woordle.services.ActiveGameStore}, so any node can serve any guess without sticky sessions.
+ * <p>
+ * Every guess returns a fresh token; a token older than game.tokens.ttl is refused.
+ * Each token carries its game's attempt count, and the node remembers the highest count used per game id
+ * for the token lifetime, so a used token, or any older one of the same game, is refused: trying guesses
+ * on a replayed token never costs fewer attempts. A guess that is rejected releases its token for a retry.
+ * <p>
+ * That memory is per node, so a player spreading replays across nodes could still get around it.
+ * Token games therefore earn no points: they are recorded in stats and history, but never ranked.
+ * Only enabled with game.tokens.enabled=true, and every node needs the same game.tokens.secret.
+ */
+@Service
+@ConditionalOnProperty(name = "game.tokens.enabled", havingValue = "true")
+public class GameTokenService {
+
+    private final GameService gameService;
+
+    private final GameTokenCodec codec;
+
+    private final Clock clock;
+
+    private final Duration ttl;
+
+    // Game id -> highest attempt count of a token used for a guess
+    private final Cache<Long, Integer> usedAttempts;
+
+    public GameTokenService(GameService gameService, Clock clock,
+                            @Value("${game.tokens.secret}") String secret,
+                            @Value("${game.tokens.ttl:30m}") Duration ttl,
+                            @Value("${game.tokens.max-tracked-games:1000000}") long maxTrackedGames) {
+        this.gameService = gameService;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.codec = new GameTokenCodec(Base64.getDecoder().decode(secret));
+        this.usedAttempts = Caffeine.newBuilder()
+                .maximumSize(maxTrackedGames)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Starts a free game and hands it to the player as a token.
+     *
+     * @param username the player
+     * @param length   the word length, from 1 to 15
+     * @param hardMode whether every guess must use the hints revealed so far
+     * @return the token holding the new game
+     */
+    @NotNull
+    public String startGame(@NotNull String username, int length, boolean hardMode) {
+        ActiveGame game = gameService.newGame(length, hardMode);
+        return codec.encode(username, ThreadLocalRandom.current().nextLong(), clock.instant().getEpochSecond(), game);
+    }
+
+    /**
+     * Evaluates a guess in the game held by a token.
+     *
+     * @param username the player
+     * @param token    the token from the previous response
+     * @param guess    the raw guess
+     * @return the guess result, with the next token while the game is still in progress
+     * @throws IllegalArgumentException if the token is invalid, expired or someone else's, or the guess is rejected
+     * @throws IllegalStateException    if the token, or a later one of the same game, was already used
+     */
+    @NotNull
+    public GuessResult guess(@NotNull String username, @NotNull String token, @NotNull String guess) {
+        GameTokenCodec.GameToken decoded = codec.decode(username, token);
+        long now = clock.instant().getEpochSecond();
+        if (now - decoded.issuedAt() > ttl.toSeconds()) {
+            throw new IllegalArgumentException("Game token has expired.");
+        }
+
+        ActiveGame game = decoded.game();
+        int attempts = game.getAttempts();
+        Integer previous = claim(decoded.gameId(), attempts);
+        GuessResult result;
+        try {
+            // Only the holder of the claimed token can finish the game, so it is recorded once
+            result = gameService.guess(username, game, guess, () -> true, false);
+        } catch (RuntimeException e) {
+            release(decoded.gameId(), attempts, previous);
+            throw e;
+        }
+        if (result.getStatus() == GuessResult.Status.IN_PROGRESS) {
+            result.setToken(codec.encode(username, decoded.gameId(), now, game));
+        }
+        return result;
+    }
+
+    /**
+     * Marks the token with the given attempt count as used.
+     *
+     * @return the highest attempt count used before, or null if none was
+     * @throws IllegalStateException if a token with as many attempts or more was already used
+     */
+    private Integer claim(long gameId, int attempts) {
+        ConcurrentMap<Long, Integer> used = usedAttempts.asMap();
+        while (true) {
+            Integer previous = used.get(gameId);
+            if (previous != null && previous >= attempts) {
+                throw new IllegalStateException("Game token has already been used.");
+            }
+            if (previous == null ? used.putIfAbsent(gameId, attempts) == null : used.replace(gameId, previous, attempts)) {
+                return previous;
+            }
+        }
+    }
+
+    // Undoes a claim whose guess was rejected, unless a later token has been used since
+    private void release(long gameId, int attempts, Integer previous) {
+        if (previous == null) {
+            usedAttempts.asMap().remove(gameId, attempts);
+        } else {
+            usedAttempts.asMap().replace(gameId, attempts, previous);
+        }
+    }
+}
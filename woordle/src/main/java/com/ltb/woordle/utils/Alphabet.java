@@ -0,0 +1,141 @@
+package com.ltb.woordle.utils;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The letters a language's words are spelled with.
+ * <p>
+ * Each alphabet maps its letters onto dense indexes, from 0 to {@link #size()} - 1, through a lookup table
+ * over Latin-1, so letter counting stays array-based: evaluation indexes an int[] by letter, with no map or regex.
+ * The same table drives normalization. Uppercase letters, and accented forms the language does not treat as
+ * letters of their own (Spanish á or ü), fold onto their canonical lowercase letter.
+ * <p>
+ * Every letter fits in one byte, so words are still stored one byte per letter, and no alphabet has more than
+ * {@link #MAX_SIZE} letters, so any set of letters fits in an int mask.
+ */
+public enum Alphabet {
+
+    ENGLISH("en", "abcdefghijklmnopqrstuvwxyz", ""),
+    // Accents only mark stress, but ñ is a letter of its own
+    SPANISH("es", "abcdefghijklmnñopqrstuvwxyz", "áaéeíiïióoúuüu"),
+    GERMAN("de", "abcdefghijklmnopqrstuvwxyzäöüß", "");
+
+    public static final int MAX_SIZE = 32;
+
+    // Lookup tables cover Latin-1; anything above is never a letter
+    private static final int TABLE_SIZE = 0x100;
+    private static final byte NOT_A_LETTER = -1;
+
+    private final String code;
+    private final char[] letters;
+    // Canonical lowercase letter -> index, or NOT_A_LETTER
+    private final byte[] indexes = new byte[TABLE_SIZE];
+    // Any accepted form of a letter -> its canonical lowercase letter, or 0
+    private final char[] folded = new char[TABLE_SIZE];
+
+    /**
+     * @param code    the ISO 639-1 language code
+     * @param letters the canonical lowercase letters, in order
+     * @param folds   pairs of an accented form and the letter it folds onto
+     */
+    Alphabet(String code, String letters, String folds) {
+        this.code = code;
+        this.letters = letters.toCharArray();
+        Arrays.fill(indexes, NOT_A_LETTER);
+
+        for (int i = 0; i < this.letters.length; i++) {
+            char letter = this.letters[i];
+            indexes[letter] = (byte) i;
+            fold(letter, letter);
+        }
+        for (int i = 0; i < folds.length(); i += 2) {
+            fold(folds.charAt(i), folds.charAt(i + 1));
+        }
+    }
+
+    private void fold(char form, char letter) {
+        folded[form] = letter;
+        // Some uppercase forms, such as that of ß, fall outside Latin-1 and are left out
+        char upper = Character.toUpperCase(form);
+        if (upper < TABLE_SIZE) {
+            folded[upper] = letter;
+        }
+    }
+
+    /**
+     * Looks up the alphabet of a language.
+     *
+     * @param code the ISO 639-1 language code, such as "en" or "es", case-insensitive
+     * @return the alphabet
+     * @throws IllegalArgumentException if code is null or not a supported language
+     */
+    @Contract("null -> fail")
+    @NotNull
+    public static Alphabet forLanguage(String code) {
+        if (code != null) {
+            for (Alphabet alphabet : values()) {
+                if (alphabet.code.equalsIgnoreCase(code)) {
+                    return alphabet;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported language: " + code);
+    }
+
+    /**
+     * @return the ISO 639-1 language code
+     */
+    @NotNull
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return the number of letters
+     */
+    public int size() {
+        return letters.length;
+    }
+
+    /**
+     * @param letter a character
+     * @return the index of the letter, or -1 if it is not a canonical lowercase letter of this alphabet
+     */
+    public int indexOf(char letter) {
+        return letter < TABLE_SIZE ? indexes[letter] : NOT_A_LETTER;
+    }
+
+    /**
+     * @param index the letter index, from 0 to size() - 1
+     * @return the canonical lowercase letter
+     */
+    public char letterAt(int index) {
+        return letters[index];
+    }
+
+    /**
+     * Folds any accepted form of a letter, uppercase or accented, onto its canonical lowercase letter.
+     *
+     * @param c a character
+     * @return the canonical letter, or 0 if c is not a letter of this alphabet in any form
+     */
+    public char fold(char c) {
+        return c < TABLE_SIZE ? folded[c] : 0;
+    }
+
+    /**
+     * @param word a word
+     * @return true if every character is a canonical lowercase letter of this alphabet
+     */
+    public boolean isWord(@NotNull CharSequence word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (indexOf(word.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,190 @@
+package com.ltb.woordle.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Everything the feedback so far has revealed about the answer, for hard mode.
+ * <p>
+ * Instead of re-reading every earlier guess, the state is folded in once per guess:
+ * <ul>
+ *     <li>fixed letters, from CORRECT positions;</li>
+ *     <li>a bit mask per position, indexed by {@link Alphabet} letter, of letters known not to be there, from PRESENT and ABSENT positions;</li>
+ *     <li>the minimum and maximum count of each letter.</li>
+ * </ul>
+ * Counts follow the duplicate-letter rules of WordService.checkLetters (see {@link PackedFeedback}):
+ * a letter marked CORRECT or PRESENT n times occurs at least n times, and if one of its copies was also
+ * marked ABSENT, exactly n times.
+ * <p>
+ * {@link #update(CharSequence, int)} and {@link #check(CharSequence)} are O(length) and allocate nothing
+ * unless a guess is rejected. Not thread-safe; {@code ActiveGame} guards it with its own lock.
+ */
+public final class HardModeConstraints {
+
+    private static final byte UNKNOWN = -1;
+
+    private final int length;
+    private final Alphabet alphabet;
+    // Letter index fixed at each position, or UNKNOWN
+    private final byte[] fixed;
+    // Bit n set = letter n of the alphabet is not at that position
+    private final int[] forbidden;
+    private final byte[] minCount;
+    private final byte[] maxCount;
+    // Bit n set = letter n of the alphabet has a minimum count above zero
+    private int required;
+    // Per-letter counts of the word being checked or folded in; always left zeroed
+    private final byte[] scratch;
+
+    /**
+     * @param length the word length, from 1 to 15
+     * @throws IllegalArgumentException if length is out of range
+     */
+    public HardModeConstraints(int length) {
+        this(length, Alphabet.ENGLISH);
+    }
+
+    /**
+     * @param length   the word length, from 1 to 15
+     * @param alphabet the alphabet of the game's language
+     * @throws IllegalArgumentException if length is out of range
+     */
+    public HardModeConstraints(int length, @NotNull Alphabet alphabet) {
+        if (length <= 0 || length > PackedFeedback.MAX_LENGTH) {
+            throw new IllegalArgumentException("Length must be a positive integer no greater than 15.");
+        }
+        this.length = length;
+        this.alphabet = alphabet;
+        this.fixed = new byte[length];
+        this.forbidden = new int[length];
+        this.minCount = new byte[alphabet.size()];
+        this.maxCount = new byte[alphabet.size()];
+        this.scratch = new byte[alphabet.size()];
+        Arrays.fill(fixed, UNKNOWN);
+        Arrays.fill(maxCount, (byte) length);
+    }
+
+    /**
+     * Folds an evaluated guess into the constraints.
+     *
+     * @param guess  the guess, in lowercase letters of the alphabet, of this length
+     * @param packed its packed feedback
+     * @throws IllegalArgumentException if the guess has the wrong length or letters outside the alphabet
+     */
+    public void update(@NotNull CharSequence guess, int packed) {
+        checkGuess(guess);
+        int absent = 0;
+
+        for (int i = 0; i < length; i++) {
+            int letter = alphabet.indexOf(guess.charAt(i));
+            switch (PackedFeedback.get(packed, i)) {
+                case PackedFeedback.CORRECT -> {
+                    fixed[i] = (byte) letter;
+                    scratch[letter]++;
+                }
+                case PackedFeedback.PRESENT -> {
+                    forbidden[i] |= 1 << letter;
+                    scratch[letter]++;
+                }
+                default -> {
+                    forbidden[i] |= 1 << letter;
+                    absent |= 1 << letter;
+                }
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            int letter = alphabet.indexOf(guess.charAt(i));
+            byte marked = scratch[letter];
+            if (marked > minCount[letter]) {
+                minCount[letter] = marked;
+                required |= 1 << letter;
+            }
+            // An ABSENT copy means every occurrence of the letter has been found
+            if ((absent & (1 << letter)) != 0 && marked < maxCount[letter]) {
+                maxCount[letter] = marked;
+            }
+        }
+        clearScratch(guess);
+    }
+
+    /**
+     * Checks a guess against every hint revealed so far.
+     *
+     * @param guess the guess, in lowercase letters of the alphabet, of this length
+     * @return null if the guess uses every hint, otherwise why it does not
+     * @throws IllegalArgumentException if the guess has the wrong length or letters outside the alphabet
+     */
+    public String check(@NotNull CharSequence guess) {
+        checkGuess(guess);
+        String violation = null;
+
+        for (int i = 0; i < length && violation == null; i++) {
+            int letter = alphabet.indexOf(guess.charAt(i));
+            if (fixed[i] != UNKNOWN && fixed[i] != letter) {
+                violation = ordinal(i + 1) + " letter must be " + upper(fixed[i]);
+            } else if (++scratch[letter] > maxCount[letter]) {
+                violation = maxCount[letter] == 0
+                        ? "Guess cannot contain " + upper(letter)
+                        : "Guess can contain at most " + maxCount[letter] + " " + upper(letter);
+            } else if ((forbidden[i] & (1 << letter)) != 0) {
+                violation = upper(letter) + " cannot be the " + ordinal(i + 1) + " letter";
+            }
+        }
+
+        // Only letters already known to be in the answer are visited
+        for (int pending = required; pending != 0 && violation == null; pending &= pending - 1) {
+            int letter = Integer.numberOfTrailingZeros(pending);
+            if (scratch[letter] < minCount[letter]) {
+                violation = minCount[letter] == 1
+                        ? "Guess must contain " + upper(letter)
+                        : "Guess must contain " + minCount[letter] + " " + upper(letter) + "s";
+            }
+        }
+
+        clearScratch(guess);
+        return violation;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    @NotNull
+    public Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    private void checkGuess(CharSequence guess) {
+        if (guess.length() != length) {
+            throw new IllegalArgumentException("Guess must have " + length + " letters");
+        }
+        for (int i = 0; i < length; i++) {
+            char c = guess.charAt(i);
+            if (alphabet.indexOf(c) < 0) {
+                throw new IllegalArgumentException("Only lowercase letters of the " + alphabet.getCode()
+                        + " alphabet can be checked, got '" + c + "'");
+            }
+        }
+    }
+
+    private void clearScratch(CharSequence guess) {
+        for (int i = 0; i < length; i++) {
+            scratch[alphabet.indexOf(guess.charAt(i))] = 0;
+        }
+    }
+
+    private char upper(int letter) {
+        return Character.toUpperCase(alphabet.letterAt(letter));
+    }
+
+    private static String ordinal(int n) {
+        return switch (n) {
+            case 1 -> "1st";
+            case 2 -> "2nd";
+            case 3 -> "3rd";
+            default -> n + "th";
+        };
+    }
+}
@@ -0,0 +1,276 @@
+package com.ltb.woordle.utils;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Allocation-free guess evaluation with feedback packed into an int.
+ * <p>
+ * Each position takes 2 bits, position 0 in the lowest bits: {@link #ABSENT}, {@link #PRESENT} or {@link #CORRECT}.
+ * Up to 15 letters fit in the low 30 bits. The packed value does not store the word length,
+ * so callers keep track of it alongside.
+ * <p>
+ * Duplicate letters follow the same rules as WordService.checkLetters: exact matches are claimed first,
+ * then remaining answer letters are handed out left to right as PRESENT.
+ */
+public final class PackedFeedback {
+
+    private PackedFeedback() {
+        throw new UnsupportedOperationException("PackedFeedback is a utility class and is not meant to be instantiated.");
+    }
+
+    public static final int ABSENT = 0;
+    public static final int PRESENT = 1;
+    public static final int CORRECT = 2;
+
+    public static final int MAX_LENGTH = 15;
+
+    private static final int BITS_PER_POSITION = 2;
+    private static final int POSITION_MASK = 0b11;
+
+    private static final char[] SYMBOLS = {'A', 'P', 'C'};
+
+    /**
+     * Per-thread letter counts, reused across evaluations instead of allocating a new array per guess.
+     */
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[Alphabet.MAX_SIZE]);
+
+    /**
+     * Evaluates an English guess against an answer.
+     *
+     * @param guess  the guessed word, lowercase a-z
+     * @param answer the answer word, lowercase a-z, same length as the guess
+     * @return the packed feedback
+     * @throws IllegalArgumentException if either word is null, not lowercase a-z, or the lengths differ or exceed 15
+     */
+    @Contract("null, _ -> fail; !null, null -> fail")
+    public static int evaluate(CharSequence guess, CharSequence answer) {
+        return evaluate(guess, answer, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Evaluates a guess against an answer spelled in the given alphabet.
+     *
+     * @param guess    the guessed word, in canonical lowercase letters of the alphabet
+     * @param answer   the answer word, in canonical lowercase letters of the alphabet, same length as the guess
+     * @param alphabet the alphabet of both words
+     * @return the packed feedback
+     * @throws IllegalArgumentException if either word is null, has a letter outside the alphabet,
+     *                                  or the lengths differ or exceed 15
+     */
+    @Contract("null, _, _ -> fail; !null, null, _ -> fail")
+    public static int evaluate(CharSequence guess, CharSequence answer, @NotNull Alphabet alphabet) {
+        if (guess == null || answer == null) {
+            throw new IllegalArgumentException("Guess and answer must be non-null and same length");
+        }
+        int length = checkLength(guess.length(), answer.length());
+
+        int[] availableLetters = SCRATCH.get();
+        Arrays.fill(availableLetters, 0);
+        int packed = 0;
+
+        // First pass: Mark correct positions, pool the rest of the answer's letters
+        for (int i = 0; i < length; i++) {
+            int guessLetter = letterIndex(alphabet, guess.charAt(i));
+            int answerLetter = letterIndex(alphabet, answer.charAt(i));
+            if (guessLetter == answerLetter) {
+                packed |= CORRECT << (i * BITS_PER_POSITION);
+            } else {
+                availableLetters[answerLetter]++;
+            }
+        }
+
+        // Second pass: Mark present letters from the remaining pool
+        for (int i = 0; i < length; i++) {
+            if (get(packed, i) == CORRECT) {
+                continue;
+            }
+            int guessLetter = alphabet.indexOf(guess.charAt(i));
+            if (availableLetters[guessLetter] > 0) {
+                packed |= PRESENT << (i * BITS_PER_POSITION);
+                availableLetters[guessLetter]--;
+            }
+        }
+
+        return packed;
+    }
+
+    /**
+     * Evaluates an English guess against an answer, both given as ASCII bytes.
+     *
+     * @param guess  the guessed word, lowercase a-z
+     * @param answer the answer word, lowercase a-z, same length as the guess
+     * @return the packed feedback
+     * @throws IllegalArgumentException if either word is null, not lowercase a-z, or the lengths differ or exceed 15
+     */
+    @Contract("null, _ -> fail; !null, null -> fail")
+    public static int evaluate(byte[] guess, byte[] answer) {
+        return evaluate(guess, answer, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Evaluates a guess against an answer, both given as Latin-1 bytes.
+     *
+     * @param guess    the guessed word, in canonical lowercase letters of the alphabet
+     * @param answer   the answer word, in canonical lowercase letters of the alphabet, same length as the guess
+     * @param alphabet the alphabet of both words
+     * @return the packed feedback
+     * @throws IllegalArgumentException if either word is null, has a letter outside the alphabet,
+     *                                  or the lengths differ or exceed 15
+     */
+    @Contract("null, _, _ -> fail; !null, null, _ -> fail")
+    public static int evaluate(byte[] guess, byte[] answer, @NotNull Alphabet alphabet) {
+        if (guess == null || answer == null) {
+            throw new IllegalArgumentException("Guess and answer must be non-null and same length");
+        }
+        int length = checkLength(guess.length, answer.length);
+
+        int[] availableLetters = SCRATCH.get();
+        Arrays.fill(availableLetters, 0);
+        int packed = 0;
+
+        for (int i = 0; i < length; i++) {
+            int guessLetter = letterIndex(alphabet, (char) (guess[i] & 0xff));
+            int answerLetter = letterIndex(alphabet, (char) (answer[i] & 0xff));
+            if (guessLetter == answerLetter) {
+                packed |= CORRECT << (i * BITS_PER_POSITION);
+            } else {
+                availableLetters[answerLetter]++;
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (get(packed, i) == CORRECT) {
+                continue;
+            }
+            int guessLetter = alphabet.indexOf((char) (guess[i] & 0xff));
+            if (availableLetters[guessLetter] > 0) {
+                packed |= PRESENT << (i * BITS_PER_POSITION);
+                availableLetters[guessLetter]--;
+            }
+        }
+
+        return packed;
+    }
+
+    /**
+     * @param packed   the packed feedback
+     * @param position the letter position, from 0
+     * @return the feedback at that position: {@link #ABSENT}, {@link #PRESENT} or {@link #CORRECT}
+     */
+    public static int get(int packed, int position) {
+        return (packed >>> (position * BITS_PER_POSITION)) & POSITION_MASK;
+    }
+
+    /**
+     * @param length the word length
+     * @return the packed feedback of a fully correct guess
+     */
+    public static int solved(int length) {
+        int packed = 0;
+        for (int i = 0; i < length; i++) {
+            packed |= CORRECT << (i * BITS_PER_POSITION);
+        }
+        return packed;
+    }
+
+    /**
+     * @return true if every position of the packed feedback is CORRECT
+     */
+    public static boolean isSolved(int packed, int length) {
+        return packed == solved(length);
+    }
+
+    /**
+     * Decodes packed feedback into the same form handleGuess returns, for the web layer.
+     *
+     * @param packed the packed feedback
+     * @param length the word length
+     * @return a List of Characters: 'C' for Correct, 'P' for Present, 'A' for Absent
+     */
+    @NotNull
+    public static List<Character> decode(int packed, int length) {
+        List<Character> feedback = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            feedback.add(SYMBOLS[get(packed, i)]);
+        }
+        return feedback;
+    }
+
+    /**
+     * Decodes packed feedback into a compact String such as "CAPAA".
+     *
+     * @param packed the packed feedback
+     * @param length the word length
+     * @return one 'C', 'P' or 'A' per position
+     */
+    @NotNull
+    public static String toString(int packed, int length) {
+        char[] feedback = new char[length];
+        for (int i = 0; i < length; i++) {
+            feedback[i] = SYMBOLS[get(packed, i)];
+        }
+        return new String(feedback);
+    }
+
+    /**
+     * Parses feedback in its 'C'/'P'/'A' String form, as produced by {@link #toString(int, int)}.
+     *
+     * @param feedback one 'C', 'P' or 'A' per position, case-insensitive
+     * @return the packed feedback
+     * @throws IllegalArgumentException if feedback is null, empty, too long, or contains another character
+     */
+    @Contract("null -> fail")
+    public static int parse(String feedback) {
+        if (feedback == null || feedback.isEmpty() || feedback.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Feedback must have between 1 and " + MAX_LENGTH + " positions");
+        }
+        int packed = 0;
+        for (int i = 0; i < feedback.length(); i++) {
+            int value = switch (Character.toUpperCase(feedback.charAt(i))) {
+                case 'C' -> CORRECT;
+                case 'P' -> PRESENT;
+                case 'A' -> ABSENT;
+                default -> throw new IllegalArgumentException("Feedback may only contain 'C', 'P' or 'A'");
+            };
+            packed |= value << (i * BITS_PER_POSITION);
+        }
+        return packed;
+    }
+
+    /**
+     * Converts packed feedback to a dense base-3 pattern index, from 0 to 3^length - 1.
+     * Handy for indexing arrays by feedback pattern.
+     *
+     * @param packed the packed feedback
+     * @param length the word length
+     * @return the pattern index
+     */
+    public static int toPatternIndex(int packed, int length) {
+        int index = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            index = index * 3 + get(packed, i);
+        }
+        return index;
+    }
+
+    private static int checkLength(int guessLength, int answerLength) {
+        if (guessLength != answerLength || guessLength == 0 || guessLength > MAX_LENGTH) {
+            throw new IllegalArgumentException("Guess and answer must be the same length, between 1 and " + MAX_LENGTH);
+        }
+        return guessLength;
+    }
+
+    private static int letterIndex(Alphabet alphabet, char letter) {
+        int index = alphabet.indexOf(letter);
+        if (index < 0) {
+            throw new IllegalArgumentException("Only lowercase letters of the " + alphabet.getCode()
+                    + " alphabet can be evaluated, got '" + letter + "'");
+        }
+        return index;
+    }
+}
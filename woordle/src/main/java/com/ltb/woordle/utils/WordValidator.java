@@ -3,9 +3,6 @@ package com.ltb.woordle.utils;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Locale;
-import java.util.regex.Pattern;
-
 public final class WordValidator {
 
     private WordValidator() {
@@ -13,27 +10,41 @@ public final class WordValidator {
     }
 
     /**
-     * Regex to allow only a-z and A-Z letters in fetched and guessed words.
+     * Validates that a word contains only English letters (a-z, A-Z).
+     *
+     * @param word the word to validate
+     * @return true if word contains only letters, false otherwise
+     * @throws IllegalArgumentException if word is null or empty
      */
-    private static final Pattern ALPHABETIC_PATTERN = Pattern.compile("^[a-zA-Z]+$");
+    @Contract("null -> fail")
+    public static boolean isValidAlphabeticWord(CharSequence word) {
+        return isValidAlphabeticWord(word, Alphabet.ENGLISH);
+    }
 
     /**
-     * Validates that a word contains only alphabetic characters (a-z, A-Z).
+     * Validates that a word contains only letters of the given alphabet, in any case or accepted accented form.
+     * One table lookup per character, see {@link Alphabet#fold(char)}.
      *
-     * @param word the word to validate
+     * @param word     the word to validate
+     * @param alphabet the alphabet of the word's language
      * @return true if word contains only letters, false otherwise
      * @throws IllegalArgumentException if word is null or empty
      */
-    @Contract("null -> fail")
-    public static boolean isValidAlphabeticWord(String word) {
+    @Contract("null, _ -> fail")
+    public static boolean isValidAlphabeticWord(CharSequence word, @NotNull Alphabet alphabet) {
         if (word == null || word.isEmpty()) {
             throw new IllegalArgumentException("Word passed to alphabetic validation cannot be null or empty.");
         }
-        return ALPHABETIC_PATTERN.matcher(word).matches();
+        for (int i = 0; i < word.length(); i++) {
+            if (alphabet.fold(word.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Normalizes a word by trimming whitespace and converting to lowercase.
+     * Normalizes an English word by trimming whitespace and converting to lowercase.
      *
      * @param word the word to normalize
      * @return the normalized word
@@ -42,6 +53,23 @@ public final class WordValidator {
     @Contract("null -> fail")
     @NotNull
     public static String normalizeWord(String word) {
+        return normalizeWord(word, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Normalizes a word by trimming whitespace and folding every letter onto its canonical lowercase form
+     * in the given alphabet, e.g. "Canción" becomes "cancion" in Spanish.
+     * Characters that are not letters of the alphabet are left as they are, so the result still fails validation.
+     * Lowercasing them could turn them into letters, e.g. the Kelvin sign into k or dotted İ into i.
+     *
+     * @param word     the word to normalize
+     * @param alphabet the alphabet of the word's language
+     * @return the normalized word
+     * @throws IllegalArgumentException if word is null, empty, or only whitespace
+     */
+    @Contract("null, _ -> fail")
+    @NotNull
+    public static String normalizeWord(String word, @NotNull Alphabet alphabet) {
         if (word == null) {
             throw new IllegalArgumentException("Word cannot be null.");
         }
@@ -52,6 +80,22 @@ public final class WordValidator {
             throw new IllegalArgumentException("Word cannot be empty or whitespace.");
         }
 
-        return trimmed.toLowerCase(Locale.ROOT);
+        char[] normalized = null;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            char letter = alphabet.fold(c);
+            if (letter == 0) {
+                letter = c;
+            }
+            if (letter != c && normalized == null) {
+                // Only copy once something changes, so an already normalized word is returned as is
+                normalized = trimmed.toCharArray();
+            }
+            if (normalized != null) {
+                normalized[i] = letter;
+            }
+        }
+
+        return normalized == null ? trimmed : new String(normalized);
     }
 }
@@ -0,0 +1,41 @@
+package com.ltb.woordle.controllers;
+
+import com.ltb.woordle.models.User;
+import com.ltb.woordle.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RegistrationControllerTests {
+
+	private final UserService userService = mock(UserService.class);
+	private final RegistrationController controller = new RegistrationController(userService);
+
+	@Test
+	void registersNewUsers() {
+		assertEquals(HttpStatus.CREATED, controller.register("alice", "secret", "alice@example.com").getStatusCode());
+		verify(userService).createNewUser(any(User.class));
+	}
+
+	@Test
+	void rejectsBlankFieldsAndTakenNames() {
+		when(userService.getUserByUsername("bob")).thenReturn(User.builder().username("bob").build());
+
+		assertEquals(HttpStatus.BAD_REQUEST, controller.register("alice", " ", "alice@example.com").getStatusCode());
+		assertEquals(HttpStatus.CONFLICT, controller.register("bob", "secret", "bob@example.com").getStatusCode());
+		verify(userService, never()).createNewUser(any());
+	}
+
+	@Test
+	void constraintViolationsAreConflictsNotErrors() {
+		// A taken email, or the same name registered concurrently, only shows up as the insert fails
+		when(userService.createNewUser(any())).thenThrow(new DataIntegrityViolationException("uk_users_email"));
+
+		assertEquals(HttpStatus.CONFLICT, controller.register("carol", "secret", "alice@example.com").getStatusCode());
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.ltb.woordle.daily;
+
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.models.DailyStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyPuzzleServiceTests {
+
+	private static final List<String> WORDS = List.of("crane", "crate", "trace", "react", "caret", "slate", "plate", "eerie");
+
+	private LocalDictionaryProvider localProvider;
+	private DailyPuzzleService dailyPuzzleService;
+
+	@BeforeEach
+	void setUp() {
+		localProvider = new LocalDictionaryProvider(new ByteArrayResource(String.join("\n", WORDS).getBytes()));
+		dailyPuzzleService = service(Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC));
+	}
+
+	private DailyPuzzleService service(Clock clock) {
+		return new DailyPuzzleService(localProvider.getWords(), clock, 42L, "2026-01-01", new int[]{5}, 6, 7);
+	}
+
+	@Test
+	void scheduleIsDeterministicAndCyclesThroughEveryWord() {
+		DailyPuzzleService other = service(Clock.systemUTC());
+		LocalDate start = LocalDate.of(2026, 1, 1);
+
+		Set<String> firstCycle = new HashSet<>();
+		for (int i = 0; i < WORDS.size(); i++) {
+			LocalDate day = start.plusDays(i);
+			assertEquals(dailyPuzzleService.getAnswer(day, 5), other.getAnswer(day, 5));
+			firstCycle.add(dailyPuzzleService.getAnswer(day, 5));
+		}
+
+		assertEquals(Set.copyOf(WORDS), firstCycle);
+		assertEquals(dailyPuzzleService.getAnswer(start, 5), dailyPuzzleService.getAnswer(start.plusDays(WORDS.size()), 5));
+	}
+
+	@Test
+	void todayFollowsTheClock() {
+		assertEquals(LocalDate.of(2026, 3, 1), dailyPuzzleService.today());
+		assertEquals(dailyPuzzleService.getAnswer(LocalDate.of(2026, 3, 1), 5), dailyPuzzleService.getAnswer(5));
+	}
+
+	@Test
+	void playersGetOneTryAndResultsAreTallied() {
+		LocalDate day = dailyPuzzleService.today();
+		assertTrue(dailyPuzzleService.markPlayed("alice", day, 5));
+		assertFalse(dailyPuzzleService.markPlayed("alice", day, 5));
+		assertTrue(dailyPuzzleService.markPlayed("bob", day, 5));
+
+		dailyPuzzleService.recordResult(day, 5, true, 3);
+		dailyPuzzleService.recordResult(day, 5, false, 6);
+
+		DailyStats stats = dailyPuzzleService.getStats(day, 5);
+		assertEquals(2, stats.getPlayers());
+		assertEquals(2, stats.getFinished());
+		assertEquals(1, stats.getWins()[2]);
+		assertEquals(1, stats.getLosses());
+	}
+
+	@Test
+	void answersComeFromTheCuratedListWithinTheDictionary() {
+		ByteArrayResource answerList = new ByteArrayResource("# answers\ncrane\nslate\nzzzzz".getBytes());
+		DailyPuzzleService curated = new DailyPuzzleService(localProvider, Clock.systemUTC(), answerList,
+				"42", true, "2026-01-01", new int[]{5}, 6, 7);
+
+		Set<String> answers = new HashSet<>();
+		for (int i = 0; i < 10; i++) {
+			answers.add(curated.getAnswer(LocalDate.of(2026, 1, 1).plusDays(i), 5));
+		}
+		assertEquals(Set.of("crane", "slate"), answers);
+	}
+
+	@Test
+	void requiredSeedMustBeSet() {
+		assertThrows(IllegalStateException.class, () -> new DailyPuzzleService(localProvider, Clock.systemUTC(),
+				null, "", true, "2026-01-01", new int[]{5}, 6, 7));
+	}
+
+	@Test
+	void rejectsUnscheduledLengths() {
+		assertThrows(IllegalArgumentException.class, () -> dailyPuzzleService.getAnswer(6));
+		assertThrows(IllegalArgumentException.class, () -> dailyPuzzleService.getStats(dailyPuzzleService.today(), 6));
+	}
+
+}
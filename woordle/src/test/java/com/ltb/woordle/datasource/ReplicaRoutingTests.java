@@ -0,0 +1,74 @@
+package com.ltb.woordle.datasource;
+
+import com.ltb.woordle.models.User;
+import com.ltb.woordle.repositories.UserCredentials;
+import com.ltb.woordle.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two embedded databases stand in for the primary and the replica; the replica never receives the writes
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+		"datasource.replica.url=" + ReplicaRoutingTests.REPLICA_URL,
+		"datasource.replica.username=sa",
+		"datasource.replica.password="
+})
+class ReplicaRoutingTests {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;" +
+			"INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'";
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ReplicaLagGuard lagGuard;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primaryDataSource;
+
+	@BeforeEach
+	void setUp() {
+		JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+		replica.update("DELETE FROM users");
+		replica.update("INSERT INTO users VALUES (1, 'alice', '{noop}stale', 'alice@example.com', 0, 0, 0)");
+
+		userRepository.deleteAll();
+		userRepository.save(User.builder().username("alice").password("{noop}fresh").email("alice@example.com").build());
+	}
+
+	@Test
+	void readOnlyQueriesGoToTheReplica() {
+		assertEquals("{noop}stale", password("alice"));
+		// The write in setUp went to the primary
+		assertEquals("{noop}fresh", new JdbcTemplate(primaryDataSource)
+				.queryForObject("SELECT password FROM users WHERE username = 'alice'", String.class));
+	}
+
+	@Test
+	void readsAfterAWriteStayOnThePrimary() {
+		lagGuard.recordWrite("alice");
+
+		assertEquals("{noop}fresh", lagGuard.readAs("alice", () -> password("alice")));
+		assertEquals("{noop}stale", lagGuard.readAs("bob", () -> password("alice")));
+		assertTrue(lagGuard.getPinnedReads() > 0);
+	}
+
+	private String password(String username) {
+		return userRepository.findCredentialsByUsername(username).map(UserCredentials::getPassword).orElse(null);
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncDictionaryClientTests {
+
+	private HttpServer server;
+	private AsyncDictionaryClient client;
+	private final AtomicInteger requests = new AtomicInteger();
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/", exchange -> {
+			requests.incrementAndGet();
+			String word = exchange.getRequestURI().getPath().substring(1);
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			int status = switch (word) {
+				case "crane" -> 200;
+				case "broken" -> 500;
+				default -> 404;
+			};
+			exchange.sendResponseHeaders(status, -1);
+			exchange.close();
+		});
+		server.start();
+
+		DictionaryApiGuard guard = new DictionaryApiGuard(50, 50, Duration.ofSeconds(1), 10, 5, Duration.ofSeconds(30), 10,
+				mock(DictionaryApiThrottle.class),
+				new WoordleMetrics(new SimpleMeterRegistry()));
+		client = new AsyncDictionaryClient(guard, Duration.ofSeconds(1), Duration.ofSeconds(5), 10);
+		ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+		ReflectionTestUtils.setField(client, "hostHeader", "localhost");
+		ReflectionTestUtils.setField(client, "apiKey", "test");
+	}
+
+	@AfterEach
+	void tearDown() {
+		client.close();
+		server.stop(0);
+	}
+
+	@Test
+	void coalescesConcurrentLookupsOfTheSameWord() throws Exception {
+		CompletableFuture<Boolean> first = client.isValidWord("crane");
+		CompletableFuture<Boolean> second = client.isValidWord("crane");
+		CompletableFuture<Boolean> other = client.isValidWord("qwxyz");
+
+		assertSame(first, second);
+		assertEquals(2, client.getInFlightCount());
+		release.countDown();
+
+		assertTrue(first.get(5, TimeUnit.SECONDS));
+		assertFalse(other.get(5, TimeUnit.SECONDS));
+		assertEquals(2, requests.get());
+	}
+
+	@Test
+	void mapsServerErrorsToDictionaryServiceException() {
+		release.countDown();
+		ExecutionException e = assertThrows(ExecutionException.class,
+				() -> client.isValidWord("broken").get(5, TimeUnit.SECONDS));
+		assertInstanceOf(DictionaryServiceException.class, e.getCause());
+	}
+
+}
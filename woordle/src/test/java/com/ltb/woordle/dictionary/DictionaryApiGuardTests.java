@@ -0,0 +1,129 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.exceptions.DictionaryRateLimitedException;
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.exceptions.DictionaryUnavailableException;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+class DictionaryApiGuardTests {
+
+	private final DictionaryApiThrottle throttle = mock(DictionaryApiThrottle.class);
+
+	private final DictionaryApiGuard guard =
+			new DictionaryApiGuard(50, 100, Duration.ofSeconds(5), 4, 4, Duration.ofMinutes(1), 1, throttle,
+					new WoordleMetrics(new SimpleMeterRegistry()));
+
+	@Test
+	void opensAfterFailuresAndRefusesCalls() {
+		for (int i = 0; i < 4; i++) {
+			assertThrows(DictionaryServiceException.class, () -> guard.execute(() -> {
+				throw new DictionaryServiceException("Dictionary API server error: 503");
+			}));
+		}
+
+		assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+		assertEquals(1, guard.getTransitionCount(CircuitBreaker.State.OPEN));
+		assertThrows(DictionaryUnavailableException.class, () -> guard.execute(() -> true));
+		assertEquals(1, guard.getRejectedByBreaker());
+	}
+
+	@Test
+	void refusedCallsFailFastWithoutWaitingOnTheThrottle() {
+		for (int i = 0; i < 4; i++) {
+			assertThrows(DictionaryServiceException.class, () -> guard.execute(() -> {
+				throw new DictionaryServiceException("Dictionary API server error: 503");
+			}));
+		}
+		clearInvocations(throttle);
+
+		assertThrows(DictionaryUnavailableException.class, () -> guard.execute(() -> true));
+		verify(throttle, never()).acquire(anyBoolean());
+	}
+
+	@Test
+	void fullBulkheadFailsFastWithoutWaitingOnTheThrottle() {
+		CompletableFuture<Boolean> pending = new CompletableFuture<>();
+		guard.executeAsync(() -> pending);
+		clearInvocations(throttle);
+
+		assertThrows(DictionaryUnavailableException.class, () -> guard.execute(() -> true));
+		verify(throttle, never()).acquire(anyBoolean());
+		assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+		pending.complete(true);
+	}
+
+	@Test
+	void bulkheadRefusesCallsBeyondTheCap() {
+		CompletableFuture<Boolean> pending = new CompletableFuture<>();
+		CompletableFuture<Boolean> first = guard.executeAsync(() -> pending);
+		CompletableFuture<Boolean> second = guard.executeAsync(() -> CompletableFuture.completedFuture(true));
+
+		ExecutionException e = assertThrows(ExecutionException.class, second::get);
+		assertInstanceOf(DictionaryUnavailableException.class, e.getCause());
+		assertEquals(1, guard.getRejectedByBulkhead());
+
+		pending.complete(true);
+		assertTrue(first.join());
+		assertEquals(1, guard.getAvailableConcurrentCalls());
+	}
+
+	@Test
+	void throttledCallsAreNeverMade() {
+		doThrow(new DictionaryUnavailableException("Dictionary API rate limit reached")).when(throttle).acquire(anyBoolean());
+		AtomicBoolean called = new AtomicBoolean();
+
+		assertThrows(DictionaryUnavailableException.class, () -> guard.execute(() -> called.getAndSet(true)));
+		ExecutionException e = assertThrows(ExecutionException.class,
+				() -> guard.executeAsync(() -> CompletableFuture.completedFuture(called.getAndSet(true))).get());
+
+		assertInstanceOf(DictionaryUnavailableException.class, e.getCause());
+		assertFalse(called.get());
+		assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+	}
+
+	@Test
+	void refusedCallsSpendNoTokensOrQuota() {
+		DictionaryApiQuota quota = new DictionaryApiQuota(mock(JdbcTemplate.class), Clock.systemUTC(),
+				new WoordleMetrics(new SimpleMeterRegistry()), 100);
+		// Five calls' worth of tokens that do not refill during the test
+		DictionaryApiThrottle realThrottle = new DictionaryApiThrottle(quota, 0.001, 5, 1, 5, Duration.ZERO);
+		DictionaryApiGuard realGuard = new DictionaryApiGuard(50, 100, Duration.ofSeconds(5), 4, 4,
+				Duration.ofMinutes(1), 1, realThrottle, new WoordleMetrics(new SimpleMeterRegistry()));
+		for (int i = 0; i < 4; i++) {
+			assertThrows(DictionaryServiceException.class, () -> realGuard.execute(() -> {
+				throw new DictionaryServiceException("Dictionary API server error: 503");
+			}));
+		}
+		assertEquals(CircuitBreaker.State.OPEN, realGuard.getState());
+		assertEquals(4, quota.getUsed());
+
+		for (int i = 0; i < 10; i++) {
+			assertThrows(DictionaryUnavailableException.class, () -> realGuard.execute(() -> true));
+			assertThrows(ExecutionException.class,
+					() -> realGuard.executeAsync(() -> CompletableFuture.completedFuture(true)).get());
+		}
+
+		assertEquals(20, realGuard.getRejectedByBreaker());
+		assertEquals(4, quota.getUsed());
+		assertEquals(0, realThrottle.getThrottledByGlobal());
+		// The one token left before the breaker opened is still there, and only that one
+		realThrottle.acquire(false);
+		assertThrows(DictionaryRateLimitedException.class, () -> realThrottle.acquire(false));
+		assertEquals(5, quota.getUsed());
+	}
+
+}
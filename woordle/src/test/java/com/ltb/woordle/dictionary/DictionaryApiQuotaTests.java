@@ -0,0 +1,84 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.metrics.WoordleMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DictionaryApiQuotaTests {
+
+	private JdbcTemplate jdbcTemplate;
+	private DictionaryApiQuota quota;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		Clock clock = Clock.fixed(Instant.parse("2026-03-15T12:00:00Z"), ZoneOffset.UTC);
+		quota = new DictionaryApiQuota(jdbcTemplate, clock, new WoordleMetrics(new SimpleMeterRegistry()), 3);
+	}
+
+	@Test
+	void refusesCallsOnceTheLimitIsReached() {
+		for (int i = 0; i < 3; i++) {
+			assertTrue(quota.tryConsume());
+		}
+		assertFalse(quota.tryConsume());
+		assertEquals(3, quota.getUsed());
+		assertEquals(1, quota.getRefusedCount());
+	}
+
+	@Test
+	void flushAddsNewCallsAndPicksUpOtherNodes() {
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("2026-03"))).thenReturn(List.of(2L));
+		quota.tryConsume();
+
+		quota.flush();
+
+		verify(jdbcTemplate).update(startsWith("INSERT"), eq("2026-03"), eq(1L));
+		assertEquals(2, quota.getUsed());
+		assertTrue(quota.tryConsume());
+		assertFalse(quota.tryConsume());
+	}
+
+	@Test
+	void flushAddsToTheMonthsRowAndCreatesItOnlyOnce() {
+		when(jdbcTemplate.update(startsWith("UPDATE"), eq(1L), eq("2026-03"))).thenReturn(0, 1);
+		when(jdbcTemplate.update(startsWith("INSERT"), eq("2026-03"), eq(1L)))
+				.thenThrow(new DuplicateKeyException("inserted by another node"));
+		quota.tryConsume();
+
+		quota.flush();
+		// Nothing new to write the second time
+		quota.flush();
+
+		verify(jdbcTemplate, times(2)).update(startsWith("UPDATE"), eq(1L), eq("2026-03"));
+		verify(jdbcTemplate).update(startsWith("INSERT"), eq("2026-03"), eq(1L));
+	}
+
+	@Test
+	void keepsCallsWhenFlushFails() {
+		when(jdbcTemplate.update(startsWith("INSERT"), eq("2026-03"), anyLong()))
+				.thenThrow(new TransientDataAccessResourceException("database down"))
+				.thenReturn(1);
+		quota.tryConsume();
+		quota.flush();
+		quota.tryConsume();
+
+		quota.flush();
+
+		verify(jdbcTemplate).update(startsWith("INSERT"), eq("2026-03"), eq(2L));
+	}
+
+}
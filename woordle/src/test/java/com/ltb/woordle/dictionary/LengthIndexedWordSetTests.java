@@ -0,0 +1,157 @@
+package com.ltb.woordle.dictionary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LengthIndexedWordSetTests {
+
+	@Test
+	void containsOnlyAddedWords() {
+		LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+		builder.add("a");
+		builder.add("crane");
+		builder.add("crane");
+		builder.add("slate");
+		builder.add("incomprehensible");
+		LengthIndexedWordSet words = builder.build();
+
+		assertTrue(words.contains("a"));
+		assertTrue(words.contains("crane"));
+		assertTrue(words.contains(new StringBuilder("slate")));
+		assertFalse(words.contains("crank"));
+		assertFalse(words.contains("CRANE"));
+		assertFalse(words.contains(""));
+		assertFalse(words.contains("incomprehensible"));
+		assertEquals(2, words.size(5));
+		assertEquals(3, words.size());
+	}
+
+	@Test
+	void randomWordComesFromBucket() {
+		LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+		for (int i = 0; i < 1000; i++) {
+			builder.add(Integer.toString(i, 26).replaceAll("[0-9]", "z") + "abcd");
+		}
+		LengthIndexedWordSet words = builder.build();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 100; i++) {
+			String word = words.randomWord(6, random);
+			assertTrue(words.contains(word));
+		}
+		assertThrows(IllegalArgumentException.class, () -> words.randomWord(15, random));
+	}
+
+	@Test
+	void mappedSnapshotMatchesTheBuiltSet(@TempDir Path dir) throws IOException {
+		LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+		Random random = new Random(9);
+		for (int i = 0; i < 5000; i++) {
+			StringBuilder word = new StringBuilder();
+			for (int length = 1 + random.nextInt(15); word.length() < length; ) {
+				word.append((char) ('a' + random.nextInt(26)));
+			}
+			builder.add(word.toString());
+		}
+		LengthIndexedWordSet built = builder.build();
+
+		Path snapshot = dir.resolve("words.wds");
+		built.write(snapshot);
+		LengthIndexedWordSet mapped = LengthIndexedWordSet.map(snapshot);
+
+		assertEquals(built.size(), mapped.size());
+		for (int length = 1; length <= 15; length++) {
+			assertEquals(built.size(length), mapped.size(length));
+			for (int i = 0; i < built.size(length); i++) {
+				String word = built.wordAt(length, i);
+				assertEquals(word, mapped.wordAt(length, i));
+				assertEquals(i, mapped.indexOf(word));
+			}
+		}
+		assertFalse(mapped.contains("qqqqqqqqqqqqqqq"));
+	}
+
+	@Test
+	void latinLettersSurviveTheSnapshot(@TempDir Path dir) throws IOException {
+		LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+		assertTrue(builder.add("señor"));
+		assertTrue(builder.add("grüße"));
+		assertFalse(builder.add("Señor"));
+		assertFalse(builder.add("ẞ"));
+		LengthIndexedWordSet built = builder.build();
+
+		Path snapshot = dir.resolve("words.wds");
+		built.write(snapshot);
+		LengthIndexedWordSet mapped = LengthIndexedWordSet.map(snapshot);
+
+		assertTrue(mapped.contains("señor"));
+		assertTrue(mapped.contains("grüße"));
+		assertFalse(mapped.contains("senor"));
+		assertEquals('ñ', mapped.letterAt(5, mapped.indexOf("señor"), 2));
+		assertEquals("grüße", mapped.wordAt(5, mapped.indexOf("grüße")));
+	}
+
+	@Test
+	void rejectsFilesThatAreNotSnapshots(@TempDir Path dir) throws IOException {
+		Path notASnapshot = Files.writeString(dir.resolve("en.txt"), "crane\nslate\n");
+
+		assertThrows(IOException.class, () -> LengthIndexedWordSet.map(notASnapshot));
+	}
+
+	@Test
+	void rejectsSnapshotsWithOverfullTables(@TempDir Path dir) throws IOException {
+		LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+		for (String word : new String[]{"crane", "slate", "brine", "trace", "adieu"}) {
+			builder.add(word);
+		}
+		Path snapshot = dir.resolve("words.wds");
+		builder.build().write(snapshot);
+
+		// Shrink the 5-letter table from 16 slots to 8, leaving it more than half full
+		byte[] bytes = Files.readAllBytes(snapshot);
+		assertEquals(16, bytes[8 + 4 * 8]);
+		bytes[8 + 4 * 8] = 8;
+		Files.write(snapshot, bytes);
+
+		assertThrows(IOException.class, () -> LengthIndexedWordSet.map(snapshot));
+	}
+
+	@Test
+	void rejectsSnapshotsWithSlotsPastTheWords(@TempDir Path dir) throws IOException {
+		LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+		for (String word : new String[]{"crane", "slate", "brine", "trace", "adieu"}) {
+			builder.add(word);
+		}
+		Path snapshot = dir.resolve("words.wds");
+		builder.build().write(snapshot);
+
+		// Skip the header and the shorter lengths' letters and slots to reach the 5-letter slots
+		ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(snapshot)).order(ByteOrder.LITTLE_ENDIAN);
+		int offset = 4 + 15 * 8;
+		for (int length = 1; length <= 5; length++) {
+			offset += (file.getInt(4 + (length - 1) * 8) * length + 3) & ~3;
+			if (length < 5) {
+				offset += file.getInt(8 + (length - 1) * 8) * 4;
+			}
+		}
+		int slot = offset;
+		while (file.getInt(slot) == 0) {
+			slot += 4;
+		}
+		// Entries are 1-based word indexes, so 6 points past the fifth and last word
+		file.putInt(slot, 6);
+		Files.write(snapshot, file.array());
+
+		assertThrows(IOException.class, () -> LengthIndexedWordSet.map(snapshot));
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.ltb.woordle.dictionary;
+
+import com.ltb.woordle.exceptions.DictionaryUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class RandomWordPoolTests {
+
+	private WordsApiDictionaryProvider remoteProvider;
+	private LocalDictionaryProvider localProvider;
+	private RandomWordPool pool;
+
+	@BeforeEach
+	void setUp() {
+		remoteProvider = mock(WordsApiDictionaryProvider.class);
+		when(remoteProvider.getRandomWord(anyInt())).thenThrow(new IllegalArgumentException("No words available"));
+		doReturn("Crane").doReturn("xyzzy").doReturn("qwert").doReturn("slate").doReturn("lemon")
+				.when(remoteProvider).getRandomWord(5);
+		localProvider = new LocalDictionaryProvider(new ByteArrayResource("crane\nslate\nlemon".getBytes()));
+
+		pool = new RandomWordPool(remoteProvider, localProvider);
+		ReflectionTestUtils.setField(pool, "enabled", true);
+		ReflectionTestUtils.setField(pool, "capacity", 4);
+		ReflectionTestUtils.setField(pool, "lowWaterMark", 2);
+	}
+
+	@Test
+	void wordsMissingFromTheLocalListAreNeverPooled() {
+		pool.refill();
+
+		// Four fetches at most: two valid answers, two dropped
+		assertEquals(2, pool.size(5));
+		assertEquals(2, pool.getDroppedWords());
+		verify(remoteProvider, times(4)).getRandomWord(5);
+
+		for (String word = pool.poll(5); word != null; word = pool.poll(5)) {
+			assertTrue(localProvider.contains(word), word);
+		}
+		assertTrue(localProvider.contains(pool.take(5)));
+	}
+
+	@Test
+	void remoteFallbackKeepsEveryFetchedWord() {
+		ReflectionTestUtils.setField(pool, "remoteFallbackEnabled", true);
+		pool.refill();
+
+		assertEquals(4, pool.size(5));
+		assertEquals(0, pool.getDroppedWords());
+	}
+
+	@Test
+	void refusedFetchesCountTowardsTheMeanLatency() {
+		reset(remoteProvider);
+		doThrow(new DictionaryUnavailableException("Circuit breaker is open")).when(remoteProvider).getRandomWord(anyInt());
+
+		pool.refill();
+
+		verify(remoteProvider, times(1)).getRandomWord(anyInt());
+		assertTrue(pool.getMeanRefillNanos() > 0);
+		assertEquals(pool.getLastRefillNanos(), pool.getMeanRefillNanos(), 0.0);
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.ltb.woordle.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTests {
+
+	private final AtomicLong now = new AtomicLong(1_000_000_000L);
+	private final TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+	@Test
+	void allowsABurstThenTheSteadyRate() {
+		for (int i = 0; i < 3; i++) {
+			assertTrue(bucket.tryAcquire());
+		}
+		assertFalse(bucket.tryAcquire());
+
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+		assertTrue(bucket.tryAcquire());
+		assertFalse(bucket.tryAcquire());
+
+		// Idle time never builds up more than one burst
+		now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+		for (int i = 0; i < 3; i++) {
+			assertTrue(bucket.tryAcquire());
+		}
+		assertFalse(bucket.tryAcquire());
+	}
+
+	@Test
+	void reservesFuturePermitsInOrder() {
+		for (int i = 0; i < 3; i++) {
+			bucket.tryAcquire();
+		}
+
+		long maxWait = TimeUnit.MILLISECONDS.toNanos(250);
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(maxWait));
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve(maxWait));
+		assertEquals(-1, bucket.reserve(maxWait));
+	}
+
+	@Test
+	void refundedPermitsCanBeTakenAgain() {
+		for (int i = 0; i < 3; i++) {
+			bucket.tryAcquire();
+		}
+		bucket.refund();
+
+		assertTrue(bucket.tryAcquire());
+		assertFalse(bucket.tryAcquire());
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.ltb.woordle.dictionary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WordsApiDictionaryProviderTests {
+
+	private final DictionaryApiThrottle throttle = mock(DictionaryApiThrottle.class);
+	private final RestTemplate restTemplate = mock(RestTemplate.class);
+	private WordsApiDictionaryProvider provider;
+
+	@BeforeEach
+	void setUp() {
+		DictionaryApiGuard guard = new DictionaryApiGuard(50, 100, Duration.ofSeconds(5), 100, 100,
+				Duration.ofMinutes(1), 4, throttle, new WoordleMetrics(new SimpleMeterRegistry()));
+		provider = new WordsApiDictionaryProvider(restTemplate, new ObjectMapper(), guard);
+		ReflectionTestUtils.setField(provider, "baseUrl", "http://localhost");
+	}
+
+	@Test
+	void everyRandomWordAttemptTakesAPermit() {
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenReturn(ResponseEntity.ok("{\"word\":\"hot dog\"}"))
+				.thenReturn(ResponseEntity.ok("{\"word\":\"Crane\"}"));
+
+		assertEquals("crane", provider.getRandomWord(5));
+		verify(throttle, times(2)).acquire(true);
+	}
+
+	@Test
+	void randomWordAttemptsAreCapped() {
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenReturn(ResponseEntity.ok("{\"word\":\"a-b-c\"}"));
+
+		assertThrows(DictionaryServiceException.class, () -> provider.getRandomWord(5));
+		verify(restTemplate, times(5)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+		verify(throttle, times(5)).acquire(true);
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.ltb.woordle.leaderboard;
+
+import com.ltb.woordle.models.LeaderboardEntry;
+import com.ltb.woordle.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LeaderboardServiceTests {
+
+	private LeaderboardService leaderboard;
+
+	@BeforeEach
+	void setUp() {
+		leaderboard = new LeaderboardService(mock(UserRepository.class));
+	}
+
+	@Test
+	void ranksMatchASortedList() {
+		Random random = new Random(11);
+		Map<String, Integer> expected = new HashMap<>();
+
+		for (int i = 0; i < 5000; i++) {
+			String username = "user" + random.nextInt(500);
+			int delta = random.nextInt(7);
+			leaderboard.addPoints(username, delta);
+			expected.merge(username, delta, Integer::sum);
+			if (i % 97 == 0) {
+				leaderboard.removeUser(username);
+				expected.remove(username);
+			}
+		}
+
+		List<Map.Entry<String, Integer>> sorted = new ArrayList<>(expected.entrySet());
+		sorted.sort(Comparator.comparing(Map.Entry<String, Integer>::getValue).reversed()
+				.thenComparing(Map.Entry::getKey));
+
+		assertEquals(sorted.size(), leaderboard.size());
+		List<LeaderboardEntry> top = leaderboard.getTop(sorted.size());
+		for (int i = 0; i < sorted.size(); i++) {
+			assertEquals(sorted.get(i).getKey(), top.get(i).getUsername());
+			assertEquals(i + 1, leaderboard.getRank(sorted.get(i).getKey()));
+		}
+		for (int rank = 1; rank <= sorted.size(); rank += 37) {
+			List<LeaderboardEntry> window = leaderboard.getAround(rank, 5);
+			int from = Math.max(0, rank - 6);
+			assertEquals(sorted.subList(from, Math.min(sorted.size(), rank + 5)).stream().map(Map.Entry::getKey).toList(),
+					window.stream().map(LeaderboardEntry::getUsername).toList());
+			assertEquals(from + 1, window.get(0).getRank());
+		}
+	}
+
+	@Test
+	void windowAroundRankIsClipped() {
+		leaderboard.addPoints("a", 30);
+		leaderboard.addPoints("b", 20);
+		leaderboard.addPoints("c", 10);
+
+		List<LeaderboardEntry> window = leaderboard.getAround(1, 1);
+		assertEquals(List.of("a", "b"), window.stream().map(LeaderboardEntry::getUsername).toList());
+		assertEquals(List.of(2, 3), leaderboard.getAround(3, 1).stream().map(LeaderboardEntry::getRank).toList());
+		assertEquals(-1, leaderboard.getRank("nobody"));
+	}
+
+}
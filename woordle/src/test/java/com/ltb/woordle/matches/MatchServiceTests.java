@@ -0,0 +1,161 @@
+package com.ltb.woordle.matches;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.services.DictionaryService;
+import com.ltb.woordle.services.GameService;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MatchServiceTests {
+
+	// Fan-out tasks run only when the test says so, standing in for a busy pool
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private MatchService matchService;
+
+	@BeforeEach
+	void setUp() {
+		DictionaryService dictionaryService = mock(DictionaryService.class);
+		when(dictionaryService.getRandomWord(5)).thenReturn("crane");
+
+		GameService gameService = mock(GameService.class);
+		when(gameService.guess(anyString(), any(), anyString(), any())).thenAnswer(invocation -> {
+			ActiveGame game = invocation.getArgument(1);
+			String guess = invocation.getArgument(2);
+			game.recordGuess(guess, PackedFeedback.evaluate(guess, game.getAnswer()));
+			return GuessResult.builder()
+					.status(game.isSolved() ? GuessResult.Status.WON
+							: game.isFinished() ? GuessResult.Status.LOST : GuessResult.Status.IN_PROGRESS)
+					.build();
+		});
+
+		matchService = new MatchService(gameService, dictionaryService, new ObjectMapper(), 100,
+				Duration.ofMinutes(5), tasks::add);
+		ReflectionTestUtils.setField(matchService, "maxAttempts", 6);
+		ReflectionTestUtils.setField(matchService, "maxPlayers", 2);
+	}
+
+	@Test
+	void slowSubscribersOnlyGetTheNewestBoard() {
+		String id = matchService.createMatch("alice", 5);
+		RecordingEmitter watcher = new RecordingEmitter();
+		matchService.subscribe(matchService.getMatch(id), watcher);
+		runTasks();
+
+		matchService.guess(id, "alice", "slate");
+		matchService.guess(id, "alice", "brine");
+		matchService.guess(id, "alice", "trace");
+		// However many guesses, one fan-out is queued
+		assertEquals(1, tasks.size());
+		runTasks();
+
+		assertEquals(2, watcher.events.size());
+		assertTrue(watcher.events.get(1).contains("\"version\":3"));
+		assertTrue(watcher.events.get(1).contains("\"feedback\":[\"AACAC\",\"ACACC\",\"ACCPC\"]"));
+		assertFalse(watcher.events.get(1).contains("slate"));
+		assertEquals(2, matchService.getCoalescedEvents());
+	}
+
+	@Test
+	void finishingTheMatchRevealsTheAnswerAndEndsStreams() {
+		String id = matchService.createMatch("alice", 5);
+		matchService.join(id, "bob");
+		assertThrows(IllegalStateException.class, () -> matchService.join(id, "carol"));
+		RecordingEmitter watcher = new RecordingEmitter();
+		matchService.subscribe(matchService.getMatch(id), watcher);
+
+		matchService.guess(id, "bob", "crane");
+		assertEquals("bob", matchService.getBoard(id).getWinner());
+		assertNull(matchService.getBoard(id).getAnswer());
+		runTasks();
+		assertFalse(watcher.completed);
+
+		for (int i = 0; i < 6; i++) {
+			matchService.guess(id, "alice", "slate");
+		}
+		assertThrows(IllegalStateException.class, () -> matchService.guess(id, "alice", "slate"));
+		runTasks();
+
+		assertTrue(matchService.getBoard(id).isFinished());
+		assertTrue(watcher.events.get(watcher.events.size() - 1).contains("\"answer\":\"crane\""));
+		assertTrue(watcher.completed);
+		assertThrows(IllegalArgumentException.class, () -> matchService.guess("nope", "alice", "slate"));
+	}
+
+	@Test
+	void failedWritesDropTheSubscriber() {
+		String id = matchService.createMatch("alice", 5);
+		RecordingEmitter watcher = new RecordingEmitter();
+		FailingEmitter gone = new FailingEmitter();
+		matchService.subscribe(matchService.getMatch(id), watcher);
+		matchService.subscribe(matchService.getMatch(id), gone);
+		runTasks();
+
+		assertEquals(1, matchService.getSubscriberCount());
+		assertEquals(1, matchService.getFailedSends());
+		assertNotNull(gone.error);
+
+		matchService.guess(id, "alice", "slate");
+		runTasks();
+		assertEquals(2, watcher.events.size());
+		assertEquals(1, gone.sends);
+	}
+
+	private void runTasks() {
+		for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+			task.run();
+		}
+	}
+
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final List<String> events = new ArrayList<>();
+		private boolean completed;
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			events.add(builder.build().stream()
+					.map(part -> part.getData().toString())
+					.collect(Collectors.joining()));
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+	}
+
+	private static class FailingEmitter extends SseEmitter {
+
+		private int sends;
+		private Throwable error;
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			sends++;
+			throw new IOException("Broken pipe");
+		}
+
+		@Override
+		public void completeWithError(Throwable ex) {
+			error = ex;
+		}
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.ltb.woordle.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ltb.woordle.models.EvaluationRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BatchEvaluationServiceTests {
+
+	private static final Set<String> WORDS = Set.of("crane", "slate", "trace", "eerie", "hello");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private DictionaryService dictionaryService;
+	private BatchEvaluationService batchEvaluationService;
+
+	@BeforeEach
+	void setUp() {
+		dictionaryService = mock(DictionaryService.class);
+		when(dictionaryService.isValidDictionaryWordAsync(any())).thenAnswer(invocation ->
+				CompletableFuture.completedFuture(WORDS.contains(invocation.getArgument(0).toString())));
+
+		batchEvaluationService = new BatchEvaluationService(dictionaryService, objectMapper, 4);
+		ReflectionTestUtils.setField(batchEvaluationService, "maxPairs", 10_000);
+		ReflectionTestUtils.setField(batchEvaluationService, "chunkSize", 3);
+	}
+
+	@AfterEach
+	void tearDown() {
+		batchEvaluationService.shutdown();
+	}
+
+	@Test
+	void streamsResultsInRequestOrderAndLooksUpEachWordOnce() throws IOException {
+		List<String> guesses = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			guesses.add(i % 2 == 0 ? "slate" : "Trace");
+		}
+
+		List<JsonNode> lines = run(EvaluationRequest.builder().answer("crane").guesses(guesses).build());
+
+		assertEquals(100, lines.size());
+		for (int i = 0; i < lines.size(); i++) {
+			assertEquals(i, lines.get(i).get("index").asInt());
+			assertEquals(i % 2 == 0 ? "AACAC" : "ACCPC", lines.get(i).get("feedback").asText());
+		}
+		verify(dictionaryService, times(1)).isValidDictionaryWordAsync("slate");
+		verify(dictionaryService, times(1)).isValidDictionaryWordAsync("trace");
+	}
+
+	@Test
+	void reportsBadPairsPerLine() throws IOException {
+		List<JsonNode> lines = run(EvaluationRequest.builder().pairs(List.of(
+				new EvaluationRequest.GuessPair("eerie", "hello"),
+				new EvaluationRequest.GuessPair("zzzzz", "hello"),
+				new EvaluationRequest.GuessPair("crane", "hi"),
+				new EvaluationRequest.GuessPair(" ", "hello"))).build());
+
+		assertEquals("ACAAA", lines.get(0).get("feedback").asText());
+		assertTrue(lines.get(1).has("error"));
+		assertTrue(lines.get(2).has("error"));
+		assertTrue(lines.get(3).has("error"));
+		assertFalse(lines.get(1).has("feedback"));
+	}
+
+	@Test
+	void rejectsMalformedRequests() {
+		assertThrows(IllegalArgumentException.class,
+				() -> batchEvaluationService.checkRequest(EvaluationRequest.builder().guesses(List.of("crane")).build()));
+		assertThrows(IllegalArgumentException.class,
+				() -> batchEvaluationService.checkRequest(new EvaluationRequest()));
+	}
+
+	private List<JsonNode> run(EvaluationRequest request) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		batchEvaluationService.evaluate(request, out);
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : out.toString().split("\n")) {
+			lines.add(objectMapper.readTree(line));
+		}
+		return lines;
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.dictionary.AsyncDictionaryClient;
+import com.ltb.woordle.dictionary.DictionaryValidationCache;
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.dictionary.RandomWordPool;
+import com.ltb.woordle.dictionary.WordsApiDictionaryProvider;
+import com.ltb.woordle.exceptions.DictionaryRateLimitedException;
+import com.ltb.woordle.exceptions.DictionaryUnavailableException;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DictionaryServiceTests {
+
+	@Test
+	void pooledAnswersAreAlwaysAcceptedAsGuesses() {
+		LocalDictionaryProvider localProvider = new LocalDictionaryProvider(
+				new ByteArrayResource("crane\nslate\nlemon\nmelon".getBytes()));
+		String[] remoteWords = {"crane", "xyzzy", "slate", "qwert", "lemon", "zzzzz", "melon", "abcde"};
+		Random random = new Random(5);
+		WordsApiDictionaryProvider remoteProvider = mock(WordsApiDictionaryProvider.class);
+		when(remoteProvider.getRandomWord(anyInt())).thenAnswer(call -> remoteWords[random.nextInt(remoteWords.length)]);
+
+		RandomWordPool pool = new RandomWordPool(remoteProvider, localProvider);
+		ReflectionTestUtils.setField(pool, "enabled", true);
+		ReflectionTestUtils.setField(pool, "capacity", 16);
+		ReflectionTestUtils.setField(pool, "lowWaterMark", 4);
+		DictionaryService dictionaryService = new DictionaryService(localProvider, remoteProvider, null, pool, null,
+				new WoordleMetrics(new SimpleMeterRegistry()));
+
+		for (int round = 0; round < 10; round++) {
+			pool.refill();
+			for (int i = 0; i < 20; i++) {
+				String answer = dictionaryService.getRandomWord(5);
+				assertTrue(dictionaryService.isValidDictionaryWord(answer), answer);
+			}
+		}
+	}
+
+	@Test
+	void rateLimitedLookupsFallBackStrictly() {
+		WordsApiDictionaryProvider remoteProvider = mock(WordsApiDictionaryProvider.class);
+		AsyncDictionaryClient asyncClient = mock(AsyncDictionaryClient.class);
+		DictionaryValidationCache validationCache = new DictionaryValidationCache(100, Duration.ofHours(1), Duration.ofHours(1));
+		DictionaryService dictionaryService = degradableService(remoteProvider, asyncClient, validationCache);
+
+		when(remoteProvider.isValidWord(anyString())).thenThrow(new DictionaryRateLimitedException("Too many dictionary lookups, slow down"));
+		when(asyncClient.isValidWord(anyString())).thenReturn(
+				CompletableFuture.failedFuture(new DictionaryRateLimitedException("Too many dictionary lookups, slow down")));
+
+		// Unknown words are not accepted, even though accept-unknown is on
+		assertFalse(dictionaryService.isValidDictionaryWord("zzzzz"));
+		assertFalse(dictionaryService.isValidDictionaryWordAsync("qqqqq").join());
+		// Local and cached words are still valid
+		assertTrue(dictionaryService.isValidDictionaryWord("crane"));
+		validationCache.put("slate", true);
+		assertTrue(dictionaryService.isValidDictionaryWord("slate"));
+		assertTrue(dictionaryService.isValidDictionaryWordAsync("slate").join());
+	}
+
+	@Test
+	void outagesStillDegrade() {
+		WordsApiDictionaryProvider remoteProvider = mock(WordsApiDictionaryProvider.class);
+		AsyncDictionaryClient asyncClient = mock(AsyncDictionaryClient.class);
+		DictionaryService dictionaryService = degradableService(remoteProvider, asyncClient);
+
+		when(remoteProvider.isValidWord(anyString())).thenThrow(new DictionaryUnavailableException("Dictionary API circuit breaker is open"));
+		when(asyncClient.isValidWord(anyString())).thenReturn(
+				CompletableFuture.failedFuture(new DictionaryUnavailableException("Dictionary API circuit breaker is open")));
+
+		assertTrue(dictionaryService.isValidDictionaryWord("zzzzz"));
+		assertTrue(dictionaryService.isValidDictionaryWordAsync("qqqqq").join());
+	}
+
+	@Test
+	void malformedWordsNeverReachTheApi() {
+		WordsApiDictionaryProvider remoteProvider = mock(WordsApiDictionaryProvider.class);
+		AsyncDictionaryClient asyncClient = mock(AsyncDictionaryClient.class);
+		DictionaryService dictionaryService = degradableService(remoteProvider, asyncClient);
+
+		assertFalse(dictionaryService.isValidDictionaryWord("ab/c?"));
+		assertFalse(dictionaryService.isValidDictionaryWordAsync("a#b{c").join());
+
+		verify(remoteProvider, never()).isValidWord(anyString());
+		verify(asyncClient, never()).isValidWord(anyString());
+	}
+
+	// Remote fallback on and unknown words accepted while the API is down, as in the deploy profile
+	private static DictionaryService degradableService(WordsApiDictionaryProvider remoteProvider,
+														  AsyncDictionaryClient asyncClient) {
+		return degradableService(remoteProvider, asyncClient,
+				new DictionaryValidationCache(100, Duration.ofHours(1), Duration.ofHours(1)));
+	}
+
+	private static DictionaryService degradableService(WordsApiDictionaryProvider remoteProvider,
+														  AsyncDictionaryClient asyncClient,
+														  DictionaryValidationCache validationCache) {
+		DictionaryService dictionaryService = new DictionaryService(
+				new LocalDictionaryProvider(new ByteArrayResource("crane".getBytes())), remoteProvider,
+				validationCache, null, asyncClient, new WoordleMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(dictionaryService, "remoteFallbackEnabled", true);
+		ReflectionTestUtils.setField(dictionaryService, "acceptUnknownWhenDegraded", true);
+		return dictionaryService;
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GameRecord;
+import com.ltb.woordle.utils.PackedFeedback;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class GameHistoryRecorderTests {
+
+	private JdbcTemplate jdbcTemplate;
+	private GameHistoryRecorder recorder;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		recorder = new GameHistoryRecorder(jdbcTemplate, new ReplicaLagGuard("", Duration.ofSeconds(5), 100),
+				new WoordleMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(recorder, "batchSize", 2);
+	}
+
+	private static ActiveGame finishedGame(String answer, String... guesses) {
+		ActiveGame game = new ActiveGame(answer, 6);
+		for (String guess : guesses) {
+			game.recordGuess(guess, PackedFeedback.evaluate(guess, answer));
+		}
+		return game;
+	}
+
+	@Test
+	void feedbackRoundTrips() {
+		ActiveGame game = finishedGame("crane", "slate", "crane");
+
+		int[] unpacked = GameHistoryRecorder.unpackFeedback(GameHistoryRecorder.packFeedback(game));
+
+		assertArrayEquals(new int[]{game.getFeedback(0), game.getFeedback(1)}, unpacked);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void insertsGamesInBatchesAndFoldsBuckets() {
+		recorder.record("alice", finishedGame("crane", "crane"), true);
+		recorder.record("alice", finishedGame("crane", "crane"), true);
+		recorder.record("alice", finishedGame("crane", "slate"), false);
+
+		recorder.flush();
+
+		ArgumentCaptor<List<Object[]>> games = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO game_history"), games.capture());
+		assertEquals(2, games.getAllValues().get(0).size());
+		assertEquals(1, games.getAllValues().get(1).size());
+
+		ArgumentCaptor<List<Object[]>> buckets = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO guess_distributions"), buckets.capture());
+		assertEquals(2, buckets.getValue().size());
+		assertTrue(buckets.getValue().stream()
+				.anyMatch(row -> row[2].equals(1) && row[3].equals(2)));
+		assertEquals(3, recorder.getInsertedGames());
+		assertEquals(0, recorder.getPendingCount());
+	}
+
+	@Test
+	void refusesMoreAttemptsThanHistoryCanHold() {
+		ReflectionTestUtils.setField(recorder, "maxAttempts", GameRecord.MAX_ATTEMPTS);
+		recorder.checkMaxAttempts();
+
+		ReflectionTestUtils.setField(recorder, "maxAttempts", GameRecord.MAX_ATTEMPTS + 1);
+		assertThrows(IllegalStateException.class, recorder::checkMaxAttempts);
+	}
+
+	@Test
+	void keepsGamesWhenFlushFails() {
+		when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO game_history"), anyList()))
+				.thenThrow(new TransientDataAccessResourceException("database down"));
+		recorder.record("bob", finishedGame("crane", "crane"), true);
+
+		recorder.flush();
+
+		assertEquals(1, recorder.getPendingCount());
+		assertEquals(1, recorder.getFailedFlushes());
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO guess_distributions"), anyList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void failedBatchStopsTheFlushAndIsRetriedFirst() {
+		when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO game_history"), anyList()))
+				.thenThrow(new TransientDataAccessResourceException("database down"))
+				.thenReturn(new int[2]);
+		recorder.record("alice", finishedGame("crane", "crane"), true);
+		recorder.record("bob", finishedGame("crane", "crane"), true);
+		recorder.record("carol", finishedGame("crane", "crane"), true);
+
+		recorder.flush();
+
+		verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT INTO game_history"), anyList());
+		assertEquals(3, recorder.getPendingCount());
+
+		recorder.flush();
+
+		ArgumentCaptor<List<Object[]>> games = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO game_history"), games.capture());
+		assertEquals(List.of("alice", "bob", "carol"), games.getAllValues().stream()
+				.skip(1)
+				.flatMap(List::stream)
+				.map(row -> row[0])
+				.toList());
+		assertEquals(0, recorder.getPendingCount());
+	}
+
+}
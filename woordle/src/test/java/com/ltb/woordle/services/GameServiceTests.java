@@ -0,0 +1,141 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.daily.DailyPuzzleService;
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.leaderboard.LeaderboardService;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.solver.CandidateIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GameServiceTests {
+
+	private GameService gameService;
+	private ActiveGameStore gameStore;
+	private UserStatsRecorder statsRecorder;
+	private GameHistoryRecorder historyRecorder;
+	private DailyPuzzleService dailyPuzzleService;
+	private DictionaryService dictionaryService;
+	private LeaderboardService leaderboardService;
+
+	@BeforeEach
+	void setUp() {
+		dictionaryService = mock(DictionaryService.class);
+		when(dictionaryService.getRandomWord(5)).thenReturn("crane");
+		when(dictionaryService.isValidDictionaryWord(any())).thenReturn(true);
+
+		WordService wordService = new WordService();
+		wordService.metrics = new WoordleMetrics(new SimpleMeterRegistry());
+		wordService.dictionaryService = dictionaryService;
+
+		gameStore = new ActiveGameStore(100, Duration.ofMinutes(5));
+		statsRecorder = mock(UserStatsRecorder.class);
+		historyRecorder = mock(GameHistoryRecorder.class);
+		dailyPuzzleService = mock(DailyPuzzleService.class);
+		leaderboardService = mock(LeaderboardService.class);
+		gameService = new GameService(gameStore, dictionaryService, wordService, statsRecorder,
+				leaderboardService, historyRecorder, dailyPuzzleService, mock(CandidateIndex.class));
+		ReflectionTestUtils.setField(gameService, "maxAttempts", 3);
+	}
+
+	@Test
+	void winningRecordsResultOnce() {
+		gameService.startGame("alice", 5);
+
+		GuessResult first = gameService.guess("alice", "Slate");
+		assertEquals(GuessResult.Status.IN_PROGRESS, first.getStatus());
+		assertEquals(List.of('A', 'A', 'C', 'A', 'C'), first.getFeedback());
+		assertNull(first.getAnswer());
+
+		GuessResult second = gameService.guess("alice", "crane");
+		assertEquals(GuessResult.Status.WON, second.getStatus());
+		assertEquals("crane", second.getAnswer());
+
+		verify(statsRecorder, times(1)).record("alice", true, 2);
+		verify(historyRecorder, times(1)).record(eq("alice"), any(), eq(true));
+		assertNull(gameStore.get("alice"));
+		assertThrows(IllegalStateException.class, () -> gameService.guess("alice", "crane"));
+	}
+
+	@Test
+	void unrankedGamesAreRecordedWithoutPoints() {
+		ActiveGame game = gameService.newGame(5, false);
+
+		assertEquals(GuessResult.Status.WON, gameService.guess("erin", game, "crane", () -> true, false).getStatus());
+
+		verify(statsRecorder).record("erin", true, 0);
+		verify(historyRecorder).record(eq("erin"), eq(game), eq(true));
+		verifyNoInteractions(leaderboardService);
+	}
+
+	@Test
+	void runningOutOfAttemptsIsALoss() {
+		gameService.startGame("bob", 5);
+		gameService.guess("bob", "slate");
+		gameService.guess("bob", "slate");
+		GuessResult last = gameService.guess("bob", "slate");
+
+		assertEquals(GuessResult.Status.LOST, last.getStatus());
+		assertEquals(0, last.getRemainingAttempts());
+		verify(statsRecorder).record("bob", false, 0);
+		verify(historyRecorder).record(eq("bob"), any(), eq(false));
+	}
+
+	@Test
+	void malformedGuessesAndFinishedGamesCostNoLookup() {
+		ActiveGame game = gameService.newGame(5, true);
+		clearInvocations(dictionaryService);
+
+		assertThrows(DictionaryServiceException.class, () -> gameService.guess("fay", game, "ab/c?", () -> true));
+		assertThrows(DictionaryServiceException.class, () -> gameService.guess("fay", game, "cranes", () -> true));
+		verify(dictionaryService, never()).isValidDictionaryWord(any());
+		assertEquals(0, game.getAttempts());
+
+		gameService.guess("fay", game, "crane", () -> true);
+		clearInvocations(dictionaryService);
+		assertThrows(IllegalStateException.class, () -> gameService.guess("fay", game, "slate", () -> true));
+		verify(dictionaryService, never()).isValidDictionaryWord(any());
+	}
+
+	@Test
+	void hardModeRejectsGuessesThatIgnoreHintsBeforeTheDictionary() {
+		gameService.startGame("dave", 5, true);
+		gameService.guess("dave", "slate");
+		clearInvocations(dictionaryService);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gameService.guess("dave", "crone"));
+		assertEquals("3rd letter must be A", e.getMessage());
+		verify(dictionaryService, never()).isValidDictionaryWord(any());
+		assertEquals(1, gameStore.get("dave").getAttempts());
+
+		assertEquals(GuessResult.Status.WON, gameService.guess("dave", "crane").getStatus());
+	}
+
+	@Test
+	void dailyGameIsPlayedOnceAndTallied() {
+		LocalDate day = LocalDate.of(2026, 3, 1);
+		when(dailyPuzzleService.today()).thenReturn(day);
+		when(dailyPuzzleService.getAnswer(day, 5)).thenReturn("slate");
+		when(dailyPuzzleService.markPlayed("carol", day, 5)).thenReturn(true, false);
+
+		gameService.startDailyGame("carol", 5, false);
+		assertEquals(GuessResult.Status.WON, gameService.guess("carol", "slate").getStatus());
+
+		verify(dailyPuzzleService).recordResult(day, 5, true, 1);
+		assertThrows(IllegalStateException.class, () -> gameService.startDailyGame("carol", 5, false));
+	}
+
+}
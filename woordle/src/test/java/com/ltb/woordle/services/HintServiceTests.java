@@ -0,0 +1,110 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.models.Hint;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HintServiceTests {
+
+	private static final List<String> WORDS = List.of("crane", "crate", "trace", "react", "caret", "slate", "plate", "eerie");
+
+	private HintService hintService;
+
+	@BeforeEach
+	void setUp() {
+		hintService = new HintService(
+				new LocalDictionaryProvider(new ByteArrayResource(String.join("\n", WORDS).getBytes())), 100, 1_000);
+		ReflectionTestUtils.setField(hintService, "maxMatrixEntries", 1_000_000L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		hintService.shutdown();
+	}
+
+	@Test
+	void narrowsCandidatesWithFeedback() {
+		Hint opening = hintService.getHint(5, List.of(), List.of());
+		assertEquals(8, opening.getRemainingCandidates());
+		assertTrue(opening.getExpectedBits() > 0);
+
+		// "slate" against "crate": only the final "ate" is in place
+		Hint hint = hintService.getHint(5, List.of("slate"), List.of("AACCC"));
+		assertEquals(1, hint.getRemainingCandidates());
+		assertEquals("crate", hint.getGuess());
+	}
+
+	@Test
+	void matrixAndOnTheFlyScoringAgree() {
+		HintService onTheFly = new HintService(
+				new LocalDictionaryProvider(new ByteArrayResource(String.join("\n", WORDS).getBytes())), 100, 1_000);
+		try {
+			for (String answer : WORDS) {
+				List<String> feedback = List.of(PackedFeedback.toString(PackedFeedback.evaluate("eerie", answer), 5));
+				Hint withMatrix = hintService.getHint(5, List.of("eerie"), feedback);
+				Hint withoutMatrix = onTheFly.getHint(5, List.of("eerie"), feedback);
+				assertEquals(withMatrix.getRemainingCandidates(), withoutMatrix.getRemainingCandidates());
+			}
+		} finally {
+			onTheFly.shutdown();
+		}
+	}
+
+	@Test
+	void rejectsInconsistentFeedback() {
+		assertThrows(IllegalArgumentException.class,
+				() -> hintService.getHint(5, List.of("crane"), List.of("CCCCA")));
+		assertThrows(IllegalArgumentException.class,
+				() -> hintService.getHint(5, List.of("crane"), List.of()));
+	}
+
+	@Test
+	void refusesLengthsItWouldHaveToScoreOnTheFly() {
+		// Eight candidates without a matrix make 64 pairs
+		HintService bounded = new HintService(
+				new LocalDictionaryProvider(new ByteArrayResource(String.join("\n", WORDS).getBytes())), 100, 50);
+		try {
+			assertThrows(IllegalArgumentException.class, () -> bounded.getHint(5, List.of(), List.of()));
+			assertEquals(1, bounded.getHint(5, List.of("slate"), List.of("AACCC")).getRemainingCandidates());
+			assertThrows(IllegalArgumentException.class, () -> bounded.getHint(16, List.of(), List.of()));
+			assertThrows(IllegalArgumentException.class, () -> bounded.getHint(0, List.of(), List.of()));
+		} finally {
+			bounded.shutdown();
+		}
+	}
+
+	@Test
+	void memoizesHistoriesRegardlessOfCase() {
+		hintService.getHint(5, List.of("slate"), List.of("AACCC"));
+		hintService.getHint(5, List.of("SLATE"), List.of("aaccc"));
+		hintService.getHint(5, List.of(" Slate "), List.of("AACCC"));
+
+		assertEquals(1, hintService.getMemoSize());
+	}
+
+	@Test
+	void scoresFullFiveLetterList() {
+		HintService fullService = new HintService(new LocalDictionaryProvider(new ClassPathResource("dictionary/en.txt")), 100,
+				4_000_000);
+		ReflectionTestUtils.setField(fullService, "maxMatrixEntries", 40_000_000L);
+		try {
+			Hint opening = fullService.getHint(5, List.of(), List.of());
+			Hint hint = fullService.getHint(5, List.of(opening.getGuess()), List.of("AAAAA"));
+			assertTrue(hint.getRemainingCandidates() > 0);
+			assertTrue(hint.getRemainingCandidates() < opening.getRemainingCandidates());
+		} finally {
+			fullService.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.leaderboard.LeaderboardService;
+import com.ltb.woordle.models.User;
+import com.ltb.woordle.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserServiceTests {
+
+	private UserService userService;
+	private LeaderboardService leaderboardService;
+
+	@BeforeEach
+	void setUp() {
+		userService = new UserService();
+		userService.userRepository = mock(UserRepository.class);
+		userService.userDetailsService = mock(WoordleUserDetailsService.class);
+		userService.lagGuard = mock(ReplicaLagGuard.class);
+		userService.passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+		leaderboardService = new LeaderboardService(mock(UserRepository.class));
+		userService.leaderboardService = leaderboardService;
+		when(userService.userRepository.save(any())).thenAnswer(call -> call.getArgument(0));
+	}
+
+	@Test
+	void profileUpdatesKeepUnflushedPoints() {
+		User stored = User.builder().username("alice").email("alice@example.com").points(10).build();
+		when(userService.userRepository.findByUsername("alice")).thenReturn(Optional.of(stored));
+		// 10 points in the database, plus 5 from a game whose stats are not flushed yet
+		leaderboardService.addPoints("alice", 15);
+
+		userService.updateUser(User.builder().username("alice").email("new@example.com").points(10).build());
+		assertEquals(15, leaderboardService.getTop(1).get(0).getPoints());
+
+		stored.setPoints(10);
+		userService.updateUser(User.builder().username("alice").email("new@example.com").points(12).build());
+		assertEquals(17, leaderboardService.getTop(1).get(0).getPoints());
+	}
+
+	@Test
+	void profileUpdatesEncodePasswordsAndKeepTheId() {
+		User stored = User.builder().id(7L).username("bob").password("{noop}old").email("bob@example.com").build();
+		when(userService.userRepository.findByUsername("bob")).thenReturn(Optional.of(stored));
+
+		userService.updateUser(User.builder().id(99L).username("bob").password("new").email("bob@example.com").build());
+		assertEquals(7L, stored.getId());
+		assertTrue(userService.passwordEncoder.matches("new", stored.getPassword()));
+		assertNotEquals("new", stored.getPassword());
+
+		String encoded = stored.getPassword();
+		userService.updateUser(User.builder().username("bob").email("bob@example.com").build());
+		assertEquals(encoded, stored.getPassword());
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserStatsRecorderTests {
+
+	private JdbcTemplate jdbcTemplate;
+	private ReplicaLagGuard lagGuard;
+	private UserStatsRecorder recorder;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		lagGuard = new ReplicaLagGuard("jdbc:h2:mem:replica", Duration.ofSeconds(5), 100);
+		recorder = new UserStatsRecorder(jdbcTemplate, lagGuard, new WoordleMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(recorder, "batchSize", 500);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void foldsResultsIntoOneUpdatePerUser() {
+		recorder.record("alice", true, 4);
+		recorder.record("alice", false, 0);
+		recorder.record("alice", true, 2);
+
+		recorder.flush();
+
+		ArgumentCaptor<List<Object[]>> arguments = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(anyString(), arguments.capture());
+		assertEquals(1, arguments.getValue().size());
+		assertArrayEquals(new Object[]{6, 2, 1, "alice"}, arguments.getValue().get(0));
+		assertEquals(0, recorder.getPendingCount());
+		// The player's next reads see the flushed stats even if the replica lags
+		assertTrue(lagGuard.isPinned("alice"));
+	}
+
+	@Test
+	void keepsDeltasWhenFlushFails() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+				.thenThrow(new TransientDataAccessResourceException("database down"));
+		recorder.record("bob", true, 3);
+
+		recorder.flush();
+		recorder.record("bob", false, 0);
+
+		assertEquals(new UserStatsRecorder.StatsDelta(3, 1, 1), recorder.getPending("bob"));
+		assertEquals(1, recorder.getFailedFlushes());
+		assertFalse(lagGuard.isPinned("bob"));
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.datasource.ReplicaLagGuard;
+import com.ltb.woordle.repositories.UserCredentials;
+import com.ltb.woordle.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WoordleUserDetailsServiceTests {
+
+	private UserRepository userRepository;
+	private WoordleUserDetailsService userDetailsService;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		userDetailsService = new WoordleUserDetailsService(userRepository,
+				new ReplicaLagGuard("", Duration.ofSeconds(5), 100), 100, Duration.ofMinutes(10));
+	}
+
+	@Test
+	void repeatedLoginsReadTheDatabaseOnce() {
+		when(userRepository.findCredentialsByUsername("alice")).thenReturn(Optional.of(credentials("alice", "{noop}pw")));
+
+		UserDetails first = userDetailsService.loadUserByUsername("alice");
+		// Spring Security does this to the principal after a successful login
+		((CredentialsContainer) first).eraseCredentials();
+		UserDetails second = userDetailsService.loadUserByUsername("alice");
+
+		assertEquals("{noop}pw", second.getPassword());
+		verify(userRepository, times(1)).findCredentialsByUsername("alice");
+		verify(userRepository, never()).findByUsername(any());
+	}
+
+	@Test
+	void evictedUsersAreReadAgain() {
+		when(userRepository.findCredentialsByUsername("bob"))
+				.thenReturn(Optional.of(credentials("bob", "{noop}old")))
+				.thenReturn(Optional.of(credentials("bob", "{noop}new")));
+
+		userDetailsService.loadUserByUsername("bob");
+		userDetailsService.evict("bob");
+
+		assertEquals("{noop}new", userDetailsService.loadUserByUsername("bob").getPassword());
+	}
+
+	@Test
+	void unknownUsersAreNotCached() {
+		when(userRepository.findCredentialsByUsername("carol"))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(credentials("carol", "{noop}pw")));
+
+		assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("carol"));
+		assertEquals("carol", userDetailsService.loadUserByUsername("carol").getUsername());
+	}
+
+	private static UserCredentials credentials(String username, String password) {
+		return new UserCredentials() {
+			@Override
+			public String getUsername() {
+				return username;
+			}
+
+			@Override
+			public String getPassword() {
+				return password;
+			}
+		};
+	}
+
+}
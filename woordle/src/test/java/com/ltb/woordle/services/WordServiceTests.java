@@ -0,0 +1,110 @@
+package com.ltb.woordle.services;
+
+import com.ltb.woordle.exceptions.DictionaryServiceException;
+import com.ltb.woordle.metrics.WoordleMetrics;
+import com.ltb.woordle.utils.PackedFeedback;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WordServiceTests {
+
+	private WordService wordService;
+	private SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		wordService = new WordService();
+		wordService.metrics = new WoordleMetrics(registry);
+		wordService.dictionaryService = mock(DictionaryService.class);
+		when(wordService.dictionaryService.isValidDictionaryWord(any())).thenReturn(true);
+	}
+
+	@Test
+	void handleGuessMarksDuplicateLetters() {
+		assertEquals(List.of('A', 'A', 'P', 'A', 'P'), wordService.handleGuess(chars("speed"), "abide"));
+		assertEquals(List.of('A', 'C', 'A', 'A', 'A'), wordService.handleGuess(chars("eerie"), "hello"));
+		assertEquals(List.of('C', 'C', 'C', 'C', 'C'), wordService.handleGuess(chars("Crane"), "crane"));
+	}
+
+	@Test
+	void packedFeedbackMatchesHandleGuess() {
+		Random random = new Random(7);
+		// A tiny alphabet forces plenty of repeated letters
+		String alphabet = "aabec";
+
+		for (int length = 1; length <= 15; length++) {
+			for (int round = 0; round < 200; round++) {
+				String guess = randomWord(random, alphabet, length);
+				String answer = randomWord(random, alphabet, length);
+
+				List<Character> expected = wordService.handleGuess(chars(guess), answer);
+				int packed = wordService.handleGuessPacked(guess, answer);
+
+				assertEquals(expected, PackedFeedback.decode(packed, length), guess + " vs " + answer);
+				assertEquals(packed, PackedFeedback.evaluate(guess.getBytes(), answer.getBytes()));
+			}
+		}
+	}
+
+	@Test
+	void packedFeedbackSolvedOnlyWhenEqual() {
+		assertTrue(PackedFeedback.isSolved(PackedFeedback.evaluate("lemon", "lemon"), 5));
+		assertFalse(PackedFeedback.isSolved(PackedFeedback.evaluate("melon", "lemon"), 5));
+		assertEquals("PCPCC", PackedFeedback.toString(PackedFeedback.evaluate("melon", "lemon"), 5));
+		assertThrows(IllegalArgumentException.class, () -> PackedFeedback.evaluate("Lemon", "lemon"));
+	}
+
+	@Test
+	void rejectedGuessesAreTimedAndCounted() {
+		when(wordService.dictionaryService.isValidDictionaryWord("xyzzy")).thenReturn(false);
+
+		wordService.handleGuess(chars("crane"), "slate");
+		assertThrows(DictionaryServiceException.class, () -> wordService.handleGuess(chars("xyzzy"), "slate"));
+		assertThrows(DictionaryServiceException.class, () -> wordService.handleGuessPacked("cranes", "slate"));
+
+		assertEquals(1, registry.get("woordle.guess").tag("outcome", "found").timer().count());
+		assertEquals(2, registry.get("woordle.guess").tag("outcome", "not_found").timer().count());
+		assertEquals(1, registry.get("woordle.guess.validation.failures").tag("reason", "dictionary").counter().count());
+		assertEquals(1, registry.get("woordle.guess.validation.failures").tag("reason", "length").counter().count());
+	}
+
+	@Test
+	void malformedPackedGuessesNeverReachTheDictionary() {
+		assertThrows(DictionaryServiceException.class, () -> wordService.handleGuessPacked("ab/c?", "slate"));
+		assertThrows(DictionaryServiceException.class, () -> wordService.handleGuessPacked("a#b{c", "slate"));
+		assertThrows(DictionaryServiceException.class, () -> wordService.handleGuessPacked("señor", "slate"));
+
+		verify(wordService.dictionaryService, never()).isValidDictionaryWord(any());
+		assertEquals(3, registry.get("woordle.guess.validation.failures").tag("reason", "format").counter().count());
+	}
+
+	private static List<Character> chars(String word) {
+		List<Character> characters = new ArrayList<>();
+		for (char c : word.toCharArray()) {
+			characters.add(c);
+		}
+		return characters;
+	}
+
+	private static String randomWord(Random random, String alphabet, int length) {
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return word.toString();
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.ltb.woordle.solver;
+
+import com.ltb.woordle.dictionary.LengthIndexedWordSet;
+import com.ltb.woordle.dictionary.LocalDictionaryProvider;
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.utils.Alphabet;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CandidateIndexTests {
+
+	// A tiny alphabet forces plenty of repeated letters
+	private static final String ALPHABET = "abcdef";
+
+	private static LengthIndexedWordSet words;
+	private static CandidateIndex index;
+
+	@BeforeAll
+	static void setUp() {
+		Random random = new Random(3);
+		LengthIndexedWordSet.Builder builder = LengthIndexedWordSet.builder();
+		for (int i = 0; i < 3000; i++) {
+			builder.add(randomWord(random, 1 + random.nextInt(7)));
+		}
+		words = builder.build();
+
+		LocalDictionaryProvider provider = mock(LocalDictionaryProvider.class);
+		when(provider.getWords()).thenReturn(words);
+		when(provider.getAlphabet()).thenReturn(Alphabet.ENGLISH);
+		index = new CandidateIndex(provider);
+	}
+
+	@Test
+	void noFeedbackCountsEveryWord() {
+		for (int length = 1; length <= 7; length++) {
+			assertEquals(words.size(length), index.count(length, new CharSequence[0], new int[0]));
+		}
+		assertEquals(0, index.count(12, new CharSequence[0], new int[0]));
+	}
+
+	@Test
+	void matchesEvaluatingEveryWord() {
+		Random random = new Random(5);
+
+		for (int round = 0; round < 500; round++) {
+			int length = 1 + random.nextInt(7);
+			String answer = words.randomWord(length, random);
+			int guessCount = 1 + random.nextInt(3);
+			CharSequence[] guesses = new CharSequence[guessCount];
+			int[] packed = new int[guessCount];
+			for (int g = 0; g < guessCount; g++) {
+				guesses[g] = randomWord(random, length);
+				packed[g] = PackedFeedback.evaluate(guesses[g], answer);
+			}
+
+			int expected = 0;
+			for (int i = 0; i < words.size(length); i++) {
+				String word = words.wordAt(length, i);
+				boolean consistent = true;
+				for (int g = 0; g < guessCount; g++) {
+					consistent &= PackedFeedback.evaluate(guesses[g], word) == packed[g];
+				}
+				expected += consistent ? 1 : 0;
+			}
+
+			int actual = index.count(length, guesses, packed);
+			assertEquals(expected, actual, String.join(",", guesses) + " for " + answer);
+			assertTrue(actual >= 1, "the answer itself always remains");
+		}
+	}
+
+	@Test
+	void countsFromAGame() {
+		String answer = words.wordAt(5, 0);
+		String guess = words.wordAt(5, 1);
+		ActiveGame game = new ActiveGame(answer, 6);
+		game.recordGuess(guess, PackedFeedback.evaluate(guess, answer));
+
+		assertEquals(index.count(5, new CharSequence[]{guess}, new int[]{PackedFeedback.evaluate(guess, answer)}),
+				index.count(game));
+	}
+
+	private static String randomWord(Random random, int length) {
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+		}
+		return word.toString();
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.ltb.woordle.tokens;
+
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTokenCodecTests {
+
+	private final GameTokenCodec codec = new GameTokenCodec("0123456789abcdef0123456789abcdef".getBytes());
+
+	@Test
+	void roundTripsAGameInProgress() {
+		ActiveGame game = new ActiveGame("crane", 6, null, true);
+		game.recordGuess("slate", PackedFeedback.evaluate("slate", "crane"));
+		game.recordGuess("brave", PackedFeedback.evaluate("brave", "crane"));
+
+		GameTokenCodec.GameToken decoded = codec.decode("alice", codec.encode("alice", 42L, 1_000L, game));
+
+		assertEquals(42L, decoded.gameId());
+		assertEquals(1_000L, decoded.issuedAt());
+		ActiveGame copy = decoded.game();
+		assertEquals("crane", copy.getAnswer());
+		assertEquals(6, copy.getMaxAttempts());
+		assertEquals(2, copy.getAttempts());
+		assertTrue(copy.isHardMode());
+		assertEquals("brave", copy.getGuess(1));
+		assertEquals(game.getFeedback(0), copy.getFeedback(0));
+		// Hard mode constraints are rebuilt from the replayed guesses
+		assertEquals("Guess cannot contain S", copy.checkHardMode("snare"));
+	}
+
+	@Test
+	void tokensDoNotRevealTheAnswerAndDifferEveryTime() {
+		ActiveGame game = new ActiveGame("crane", 6);
+		String first = codec.encode("alice", 1L, 0L, game);
+		String second = codec.encode("alice", 1L, 0L, game);
+
+		assertNotEquals(first, second);
+		assertFalse(new String(Base64.getUrlDecoder().decode(first)).contains("crane"));
+	}
+
+	@Test
+	void rejectsTamperedForeignAndGarbageTokens() {
+		String token = codec.encode("alice", 7L, 0L, new ActiveGame("crane", 6));
+		byte[] raw = Base64.getUrlDecoder().decode(token);
+		raw[20] ^= 1;
+		String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+
+		assertThrows(IllegalArgumentException.class, () -> codec.decode("alice", tampered));
+		assertThrows(IllegalArgumentException.class, () -> codec.decode("bob", token));
+		assertThrows(IllegalArgumentException.class, () -> codec.decode("alice", "not a token"));
+		assertThrows(IllegalArgumentException.class,
+				() -> new GameTokenCodec("another secret, same length.....".getBytes()).decode("alice", token));
+	}
+
+	@Test
+	void rejectsShortSecrets() {
+		assertThrows(IllegalArgumentException.class, () -> new GameTokenCodec("short".getBytes()));
+	}
+
+}
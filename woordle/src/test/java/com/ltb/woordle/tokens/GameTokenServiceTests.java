@@ -0,0 +1,75 @@
+package com.ltb.woordle.tokens;
+
+import com.ltb.woordle.models.ActiveGame;
+import com.ltb.woordle.models.GuessResult;
+import com.ltb.woordle.services.GameService;
+import com.ltb.woordle.utils.PackedFeedback;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameTokenServiceTests {
+
+	private GameService gameService;
+	private GameTokenService tokenService;
+
+	@BeforeEach
+	void setUp() {
+		gameService = mock(GameService.class);
+		when(gameService.newGame(5, false)).thenAnswer(call -> new ActiveGame("crane", 6));
+		// Plays the guess like GameService would, rejecting words that are not "slate" or "crane"
+		when(gameService.guess(anyString(), any(ActiveGame.class), anyString(), any(), anyBoolean())).thenAnswer(call -> {
+			ActiveGame game = call.getArgument(1);
+			String guess = call.getArgument(2);
+			if (!guess.equals("slate") && !guess.equals("crane")) {
+				throw new IllegalArgumentException("Could not validate guess");
+			}
+			game.recordGuess(guess, PackedFeedback.evaluate(guess, game.getAnswer()));
+			return GuessResult.builder()
+					.attempts(game.getAttempts())
+					.status(game.isSolved() ? GuessResult.Status.WON : GuessResult.Status.IN_PROGRESS)
+					.build();
+		});
+
+		Clock clock = Clock.fixed(Instant.parse("2026-03-15T12:00:00Z"), ZoneOffset.UTC);
+		String secret = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+		tokenService = new GameTokenService(gameService, clock, secret, Duration.ofMinutes(30), 1000);
+	}
+
+	@Test
+	void usedTokensCannotBeReplayed() {
+		String start = tokenService.startGame("alice", 5, false);
+		String next = tokenService.guess("alice", start, "slate").getToken();
+
+		assertThrows(IllegalStateException.class, () -> tokenService.guess("alice", start, "crane"));
+		GuessResult won = tokenService.guess("alice", next, "crane");
+		assertEquals(GuessResult.Status.WON, won.getStatus());
+		assertEquals(2, won.getAttempts());
+		assertThrows(IllegalStateException.class, () -> tokenService.guess("alice", next, "crane"));
+	}
+
+	@Test
+	void rejectedGuessesLeaveTheTokenUsable() {
+		String start = tokenService.startGame("alice", 5, false);
+
+		assertThrows(IllegalArgumentException.class, () -> tokenService.guess("alice", start, "xyzzy"));
+		assertEquals(GuessResult.Status.WON, tokenService.guess("alice", start, "crane").getStatus());
+	}
+
+	@Test
+	void tokenGamesAreNeverRanked() {
+		tokenService.guess("alice", tokenService.startGame("alice", 5, false), "crane");
+
+		verify(gameService).guess(eq("alice"), any(ActiveGame.class), eq("crane"), any(), eq(false));
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.ltb.woordle.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.ltb.woordle.utils.WordValidator.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphabetTests {
+
+	@Test
+	void lettersHaveDenseIndexes() {
+		for (Alphabet alphabet : Alphabet.values()) {
+			assertTrue(alphabet.size() <= Alphabet.MAX_SIZE);
+			for (int i = 0; i < alphabet.size(); i++) {
+				assertEquals(i, alphabet.indexOf(alphabet.letterAt(i)));
+			}
+		}
+		assertEquals(26, Alphabet.ENGLISH.size());
+		assertEquals(14, Alphabet.SPANISH.indexOf('ñ'));
+		assertEquals(-1, Alphabet.ENGLISH.indexOf('ñ'));
+		assertEquals(-1, Alphabet.SPANISH.indexOf('A'));
+		assertEquals(-1, Alphabet.GERMAN.indexOf('ẞ'));
+	}
+
+	@Test
+	void normalizationFoldsCaseAndAccentsPerLanguage() {
+		assertEquals("crane", normalizeWord("  Crane "));
+		assertEquals("cancion", normalizeWord("Canción", Alphabet.SPANISH));
+		assertEquals("pinguino", normalizeWord("PINGÜINO", Alphabet.SPANISH));
+		assertEquals("señor", normalizeWord("SEÑOR", Alphabet.SPANISH));
+		assertEquals("grüße", normalizeWord("GRÜße", Alphabet.GERMAN));
+
+		assertTrue(isValidAlphabeticWord("Crane"));
+		assertFalse(isValidAlphabeticWord("señor"));
+		assertFalse(isValidAlphabeticWord("cr4ne"));
+		assertTrue(isValidAlphabeticWord("Señor", Alphabet.SPANISH));
+		assertFalse(isValidAlphabeticWord("grüße", Alphabet.SPANISH));
+		assertTrue(isValidAlphabeticWord("grüße", Alphabet.GERMAN));
+		assertThrows(IllegalArgumentException.class, () -> isValidAlphabeticWord("", Alphabet.GERMAN));
+	}
+
+	@Test
+	void charactersOutsideTheAlphabetNeverNormalizeIntoLetters() {
+		// Dotted capital I and the Kelvin sign lowercase to plain i and k
+		assertFalse(isValidAlphabeticWord(normalizeWord("\u0130ndex")));
+		assertFalse(isValidAlphabeticWord(normalizeWord("\u212Anack")));
+		assertFalse(isValidAlphabeticWord(normalizeWord("CR4NE")));
+		assertEquals("cr4ne", normalizeWord("CR4NE"));
+	}
+
+	@Test
+	void feedbackCountsLettersOutsideAsciiLikeAnyOther() {
+		// ñ and n are different letters: the second n of "nunca" is not in "niñas"
+		assertEquals("CAAAP", PackedFeedback.toString(PackedFeedback.evaluate("nunca", "niñas", Alphabet.SPANISH), 5));
+		assertEquals("APPPA", PackedFeedback.toString(PackedFeedback.evaluate("añosa", "señor", Alphabet.SPANISH), 5));
+		assertEquals(PackedFeedback.evaluate("añosa", "señor", Alphabet.SPANISH),
+				PackedFeedback.evaluate("añosa".getBytes(StandardCharsets.ISO_8859_1),
+						"señor".getBytes(StandardCharsets.ISO_8859_1), Alphabet.SPANISH));
+		assertThrows(IllegalArgumentException.class, () -> PackedFeedback.evaluate("añosa", "señor"));
+	}
+
+	@Test
+	void languagesAreLookedUpByCode() {
+		assertSame(Alphabet.SPANISH, Alphabet.forLanguage("ES"));
+		assertSame(Alphabet.GERMAN, Alphabet.forLanguage("de"));
+		assertThrows(IllegalArgumentException.class, () -> Alphabet.forLanguage("xx"));
+		assertThrows(IllegalArgumentException.class, () -> Alphabet.forLanguage(null));
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.ltb.woordle.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HardModeConstraintsTests {
+
+	@Test
+	void correctLettersStayAndAbsentLettersAreBanned() {
+		HardModeConstraints constraints = played("crane", "slate");
+
+		assertNull(constraints.check("brave"));
+		assertEquals("3rd letter must be A", constraints.check("crone"));
+		assertEquals("Guess cannot contain S", constraints.check("snake"));
+	}
+
+	@Test
+	void presentLettersMustBeReusedElsewhere() {
+		HardModeConstraints constraints = played("crane", "react");
+
+		assertNull(constraints.check("crane"));
+		assertEquals("C cannot be the 4th letter", constraints.check("brace"));
+		assertEquals("Guess must contain C", constraints.check("grade"));
+	}
+
+	@Test
+	void duplicateLettersAreCountedLikeCheckLetters() {
+		// "eerie" against "hello" is ACAAA: exactly one E
+		assertEquals("Guess can contain at most 1 E", played("hello", "eerie").check("heyey"));
+
+		// "label" against "llama" marks both Ls: at least two
+		HardModeConstraints constraints = played("llama", "label");
+		assertNull(constraints.check("lilac"));
+		assertEquals("Guess must contain 2 Ls", constraints.check("loamy"));
+	}
+
+	@Test
+	void matchesRescanningEveryEarlierGuess() {
+		Random random = new Random(11);
+		// A tiny alphabet forces plenty of repeated letters
+		String alphabet = "abcde";
+
+		for (int game = 0; game < 300; game++) {
+			int length = 1 + random.nextInt(6);
+			String answer = randomWord(random, alphabet, length);
+			HardModeConstraints constraints = new HardModeConstraints(length);
+			List<String> guesses = new ArrayList<>();
+
+			for (int turn = 0; turn < 4; turn++) {
+				String guess = randomWord(random, alphabet, length);
+				constraints.update(guess, PackedFeedback.evaluate(guess, answer));
+				guesses.add(guess);
+
+				for (int probe = 0; probe < 30; probe++) {
+					String candidate = randomWord(random, alphabet, length);
+					boolean consistent = true;
+					for (String earlier : guesses) {
+						consistent &= PackedFeedback.evaluate(earlier, candidate) == PackedFeedback.evaluate(earlier, answer);
+					}
+					assertEquals(consistent, constraints.check(candidate) == null, candidate + " after " + guesses + " for " + answer);
+				}
+				assertNull(constraints.check(answer));
+			}
+		}
+	}
+
+	private static HardModeConstraints played(String answer, String... guesses) {
+		HardModeConstraints constraints = new HardModeConstraints(answer.length());
+		for (String guess : guesses) {
+			constraints.update(guess, PackedFeedback.evaluate(guess, answer));
+		}
+		return constraints;
+	}
+
+	private static String randomWord(Random random, String alphabet, int length) {
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return word.toString();
+	}
+
+}
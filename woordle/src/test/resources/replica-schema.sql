@@ -0,0 +1,10 @@
+-- The stand-in replica for ReplicaRoutingTests; a real replica gets its schema from the primary
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    points INT NOT NULL DEFAULT 0,
+    games_won INT NOT NULL DEFAULT 0,
+    games_lost INT NOT NULL DEFAULT 0
+);